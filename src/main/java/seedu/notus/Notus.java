@@ -6,6 +6,7 @@ import seedu.notus.command.ExitCommand;
 import seedu.notus.data.exception.SystemException;
 import seedu.notus.data.notebook.Notebook;
 import seedu.notus.data.tag.TagManager;
+import seedu.notus.data.timetable.ReminderScheduler;
 import seedu.notus.data.timetable.Timetable;
 import seedu.notus.storage.StorageManager;
 import seedu.notus.ui.AsciiArt;
@@ -27,6 +28,7 @@ public class Notus {
     private Timetable timetable;
     private TagManager tagManager;
     private ParserManager parserManager;
+    private ReminderScheduler reminderScheduler;
 
     private static final String WELCOME_MSG_STRING = "Welcome to NotUS! "
             + AsciiArt.getNotusLogo() + Formatter.LS
@@ -51,8 +53,7 @@ public class Notus {
 
             storageManager.loadAllNotes(false);
             storageManager.loadAllNotes(true);
-            storageManager.saveAllNoteDetails(false);
-            storageManager.saveAllNoteDetails(true);
+            storageManager.repairNoteDetails();
             storageManager.loadTimetable();
 
         } catch (SystemException exception) {
@@ -61,6 +62,12 @@ public class Notus {
             interfaceManager.prints("Unable to save to a file");
         }
         interfaceManager.prints(WELCOME_MSG_STRING);
+
+        if (Boolean.getBoolean(ReminderScheduler.SCHEDULER_PROPERTY)) {
+            reminderScheduler = new ReminderScheduler(timetable, interfaceManager);
+            timetable.addObserver(reminderScheduler);
+            reminderScheduler.start();
+        }
     }
 
     /** Reads the user command and executes it until the user exits the program. */
@@ -80,11 +87,15 @@ public class Notus {
      * Exits the application.
      */
     private void exit() {
+        if (reminderScheduler != null) {
+            reminderScheduler.stop();
+        }
         try {
             storageManager.saveAll();
         } catch (IOException exception) {
             interfaceManager.prints("Unable to save to a file");
         }
+        storageManager.shutdown();
     }
 
     /** Runs the program until termination. */
@@ -101,8 +112,11 @@ public class Notus {
      * @return String of the executed command.
      */
     private String executeCommand(Command command) {
-        command.setData(notebook, timetable, tagManager, storageManager);
-        return command.execute();
+        // The reminder scheduler reads the timetable from another thread while holding it.
+        synchronized (timetable) {
+            command.setData(notebook, timetable, tagManager, storageManager);
+            return command.execute();
+        }
     }
 
     /**
@@ -1,6 +1,8 @@
 package seedu.notus.command;
 
+import seedu.notus.data.timetable.Clash;
 import seedu.notus.data.timetable.Event;
+import seedu.notus.data.timetable.Timetable;
 import seedu.notus.ui.Formatter;
 
 import java.io.IOException;
@@ -52,7 +54,7 @@ public class AddEventCommand extends Command {
         }
 
         tagManager.rebindTags(event);
-        ArrayList<Event> clashes = timetable.getClashingEvents(event);
+        ArrayList<Clash> clashes = timetable.getClashes(event, Timetable.MAX_CLASHES);
         timetable.addEvent(event);
 
         try {
@@ -61,8 +63,8 @@ public class AddEventCommand extends Command {
             return Formatter.formatString(FILE_WRITE_UNSUCCESSFUL_MESSAGE);
         }
         String header = ADD_EVENT_SUCCESSFUL_MESSAGE;
-        for (Event clashEvent : clashes) {
-            if (clashEvent.equals(event)) {
+        for (Clash clash : clashes) {
+            if (clash.isDuplicate()) {
                 header = ADD_EVENT_DUPLICATE_WARNING;
                 break;
             }
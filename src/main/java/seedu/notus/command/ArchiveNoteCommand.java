@@ -60,13 +60,16 @@ public class ArchiveNoteCommand extends Command {
                 }
             }
 
+            if (tagManager != null) {
+                tagManager.updateArchived(notebook.getNote(title, true));
+            }
+
             try {
-                storageManager.saveAllNoteDetails(false);
-                storageManager.saveAllNoteDetails(true);
+                storageManager.deleteNoteDetails(title, false);
+                storageManager.saveNoteDetails(notebook.getNote(title, true), true);
 
-                // delete the content file from unarchived notes and add it to archived
-                storageManager.deleteNoteContentFile(title, false);
-                storageManager.saveNoteContent(notebook.getNote(title, true), true);
+                // move the content file from unarchived notes to archived notes
+                storageManager.moveNoteContentFile(title, false);
             } catch (IOException exception) {
                 return Formatter.formatString(FILE_WRITE_UNSUCCESSFUL_MESSAGE);
             } catch (SystemException exception) {
@@ -42,6 +42,9 @@ public class DeleteEventCommand extends Command {
         }
         Event event = timetable.getEvent(index);
         timetable.deleteEvent(index);
+        if (tagManager != null) {
+            tagManager.untagObject(event);
+        }
 
         try {
             storageManager.saveTimetable();
@@ -3,6 +3,7 @@ package seedu.notus.command;
 //@@author Nazryl
 
 import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.notebook.Note;
 import seedu.notus.ui.Formatter;
 
 import java.io.IOException;
@@ -44,24 +45,31 @@ public class DeleteNoteCommand extends Command {
     public String execute() {
         boolean isDeleted;
         String deletedTitle = "";
+        Note deletedNote;
 
         try {
             // If there is no title, delete note by index. Else delete by title.
             if (title.isBlank()) {
                 assert index >= 0;
-                deletedTitle = notebook.getNote(index).getTitle();
+                deletedNote = notebook.getNote(index);
+                deletedTitle = deletedNote.getTitle();
                 isDeleted = notebook.deleteNote(index);
             } else {
+                deletedNote = notebook.findNote(title, false);
                 isDeleted = notebook.deleteNote(title);
             }
 
+            if (isDeleted && tagManager != null) {
+                tagManager.untagObject(deletedNote);
+            }
+
             if (isDeleted &&  title.isBlank()) {
                 storageManager.deleteNoteContentFile(deletedTitle, false);
-                storageManager.saveAllNoteDetails(false);
+                storageManager.deleteNoteDetails(deletedTitle, false);
                 return Formatter.formatString(DELETE_NOTE_SUCCESSFUL_MESSAGE + deletedTitle);
             } else if (isDeleted) {
                 storageManager.deleteNoteContentFile(title, false);
-                storageManager.saveAllNoteDetails(false);
+                storageManager.deleteNoteDetails(title, false);
                 return Formatter.formatString(DELETE_NOTE_SUCCESSFUL_MESSAGE + title);
             } else {
                 return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
@@ -35,7 +35,7 @@ public class DeleteTagCommand extends Command {
         executedMessage.add(0, HEADER_DELETE_TAG);
 
         try {
-            storageManager.saveAllNoteDetails(false);
+            storageManager.saveAll();
         } catch (IOException exception) {
             Formatter.formatString(FILE_WRITE_UNSUCCESSFUL_MESSAGE);
         }
@@ -1,10 +1,12 @@
 package seedu.notus.command;
 
 import seedu.notus.data.tag.Tag;
+import seedu.notus.data.timetable.Clash;
 import seedu.notus.data.timetable.DailyEvent;
 import seedu.notus.data.timetable.Event;
 import seedu.notus.data.timetable.MonthlyEvent;
 import seedu.notus.data.timetable.RecurringEvent;
+import seedu.notus.data.timetable.Timetable;
 import seedu.notus.data.timetable.WeeklyEvent;
 import seedu.notus.data.timetable.YearlyEvent;
 import seedu.notus.ui.Formatter;
@@ -96,6 +98,7 @@ public class EditEventCommand extends Command {
         editTitle(event, results);
         editTimings(event, results);
         editReminder(event, results);
+        timetable.updateEvent(event);
 
         // If change recurring, edit all the other data first, instantiate a new object with the relevant type of
         // recurring event and replace the original event.
@@ -431,10 +434,10 @@ public class EditEventCommand extends Command {
 
     private void checkClashes(Event event, ArrayList<String> results) {
         timetable.deleteEvent(index);
-        ArrayList<Event> clashes = timetable.getClashingEvents(event);
+        ArrayList<Clash> clashes = timetable.getClashes(event, Timetable.MAX_CLASHES);
         String error = "";
-        for (Event clashEvent : clashes) {
-            if (clashEvent.equals(event)) {
+        for (Clash clash : clashes) {
+            if (clash.isDuplicate()) {
                 error = EDIT_EVENT_DUPLICATE_WARNING;
                 break;
             }
@@ -51,15 +51,15 @@ public class EditNoteCommand extends Command {
         boolean isEditTitle = false;
         String oldNoteTitle = "";
 
-        // Retrieve note
+        // Retrieve note, and edit a copy of its content so that nothing changes if any line is invalid
         try {
             oldNote = notebook.getNote(index);
-            content = oldNote.getContent();
+            content = new ArrayList<>(oldNote.getContent());
         } catch (IndexOutOfBoundsException exception) {
             return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
         }
 
-        // Set title
+        // Check title
         if (!newNote.getTitle().isBlank()) {
             if (newNote.getTitle().equals(oldNote.getTitle())) {
                 return Formatter.formatString(SAME_NOTE_TITLE_UNSUCCESSFUL_MESSAGE);
@@ -68,44 +68,39 @@ public class EditNoteCommand extends Command {
                 return Formatter.formatString(NOTE_EXIST_MESSAGE);
             }
             isEditTitle = true;
-            oldNoteTitle = oldNote.getTitle();
-            oldNote.setTitle(newNote.getTitle());
         }
 
         // Set new lines
-        if (!addLists.isEmpty()) {
-            for (Map.Entry<Integer, String> entry : addLists.entrySet()) {
-                if (entry.getKey() < content.size()) {
-                    content.add(entry.getKey(), entry.getValue());
-                } else {
-                    return Formatter.formatString(INVALID_LINE_UNSUCCESSFUL_MESSAGE);
-                }
+        for (Map.Entry<Integer, String> entry : addLists.entrySet()) {
+            if (entry.getKey() < content.size()) {
+                content.add(entry.getKey(), entry.getValue());
+            } else {
+                return Formatter.formatString(INVALID_LINE_UNSUCCESSFUL_MESSAGE);
             }
-            oldNote.setContent(content);
         }
 
         // Edit lines
-        if (!editLists.isEmpty()) {
-            for (Map.Entry<Integer, String> entry : editLists.entrySet()) {
-                if (entry.getKey() < content.size()) {
-                    content.set(entry.getKey(), entry.getValue());
-                } else {
-                    return Formatter.formatString(INVALID_LINE_UNSUCCESSFUL_MESSAGE);
-                }
+        for (Map.Entry<Integer, String> entry : editLists.entrySet()) {
+            if (entry.getKey() < content.size()) {
+                content.set(entry.getKey(), entry.getValue());
+            } else {
+                return Formatter.formatString(INVALID_LINE_UNSUCCESSFUL_MESSAGE);
             }
-            oldNote.setContent(content);
         }
 
         // Delete lines
-        if (!deleteLists.isEmpty()) {
-            for (int key : deleteLists.keySet()) {
-                if (key < content.size() && content.size() != 1) {
-                    content.remove(key);
-                } else {
-                    return Formatter.formatString(INVALID_LINE_UNSUCCESSFUL_MESSAGE);
-                }
+        for (int key : deleteLists.keySet()) {
+            if (key < content.size() && content.size() != 1) {
+                content.remove(key);
+            } else {
+                return Formatter.formatString(INVALID_LINE_UNSUCCESSFUL_MESSAGE);
             }
-            oldNote.setContent(content);
+        }
+
+        // Every edit is valid, so the note can be changed
+        if (isEditTitle) {
+            oldNoteTitle = oldNote.getTitle();
+            notebook.renameNote(oldNote, newNote.getTitle());
         }
 
         // Edit tags
@@ -116,15 +111,20 @@ public class EditNoteCommand extends Command {
         // Add extra content
         if (isInput) {
             content.addAll(inputContent());
+        }
+        if (isEditContent()) {
             oldNote.setContent(content);
         }
 
         try {
-            storageManager.saveAllNoteDetails(false);
-            storageManager.saveNoteContent(oldNote, false);
-
             if (isEditTitle) {
-                storageManager.deleteNoteContentFile(oldNoteTitle, false);
+                storageManager.renameNoteDetails(oldNoteTitle, oldNote, false);
+                storageManager.renameNoteContent(oldNoteTitle, oldNote.getTitle(), false);
+            } else {
+                storageManager.saveNoteDetails(oldNote, false);
+            }
+            if (isEditContent()) {
+                storageManager.saveNoteContent(oldNote, false);
             }
         } catch (IOException | SystemException exception) {
             return Formatter.formatString(FILE_WRITE_UNSUCCESSFUL_MESSAGE);
@@ -133,4 +133,8 @@ public class EditNoteCommand extends Command {
         notebook.setNotes(index, oldNote);
         return Formatter.formatNote(EDIT_NOTE_SUCCESSFUL_MESSAGE, oldNote);
     }
+
+    private boolean isEditContent() {
+        return isInput || !addLists.isEmpty() || !editLists.isEmpty() || !deleteLists.isEmpty();
+    }
 }
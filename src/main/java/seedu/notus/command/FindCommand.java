@@ -37,8 +37,8 @@ public class FindCommand extends Command {
     }
 
     /**
-     * Filters and finds notes that has the title containing the user inputted keyword.
-     * Stores the filtered notes in an ArrayList of Note
+     * Filters and finds notes that has the title or content containing the user inputted keywords.
+     * Stores the filtered notes in an ArrayList of Note, ranked by how often the keywords occur
      *
      * @return String containing the filtered list of notes
      */
@@ -50,7 +50,7 @@ public class FindCommand extends Command {
         ArrayList<Note> filteredNotes = notebook.findNotes(keywords);
 
         LOGGER.log(Level.INFO, "Filtered Notes into an ArrayList of notes. "
-                + "Filtered Notes only has notes with title containing the keyword.");
+                + "Filtered Notes only has notes with title or content containing the keywords.");
 
         if (filteredNotes.isEmpty()) {
             LOGGER.log(Level.INFO, "Filtered notes is empty.");
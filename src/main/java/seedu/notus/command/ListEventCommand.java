@@ -1,11 +1,10 @@
 package seedu.notus.command;
 
 import seedu.notus.data.timetable.Event;
+import seedu.notus.data.timetable.EventCalendar;
 import seedu.notus.ui.Formatter;
 
-import java.time.Month;
 import java.util.ArrayList;
-import java.util.HashMap;
 
 import static seedu.notus.util.CommandMessage.LIST_EVENT_SUCCESSFUL_MESSAGE;
 import static seedu.notus.util.CommandMessage.LIST_EVENT_SUCCESSFUL_TIME_PERIOD_MESSAGE;
@@ -81,13 +80,13 @@ public class ListEventCommand extends Command {
         }
 
         // Display the whole year if no month, else display only that month.
-        HashMap<Month, HashMap<Integer, ArrayList<Event>>> calendar;
+        EventCalendar calendar;
         if (month != 0) {
             calendar = timetable.getMonthTimetable(year, month);
         } else {
             calendar = timetable.getYearTimetable(year);
         }
-        if (calendar.size() == 0) {
+        if (calendar.isEmpty()) {
             return Formatter.formatString(LIST_EVENT_UNSUCCESSFUL_TIME_PERIOD_MESSAGE);
         }
 
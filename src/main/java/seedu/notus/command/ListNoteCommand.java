@@ -1,12 +1,14 @@
 package seedu.notus.command;
 
-import seedu.notus.data.tag.TaggableObject;
+import seedu.notus.data.exception.SystemException;
 import seedu.notus.data.notebook.Note;
 import seedu.notus.data.tag.Tag;
+import seedu.notus.data.tag.TagExpression;
+import seedu.notus.data.tag.TaggableObject;
 import seedu.notus.ui.Formatter;
 
 import java.util.ArrayList;
-import java.util.Map;
+import java.util.BitSet;
 
 import static seedu.notus.ui.Formatter.formatNotes;
 import static seedu.notus.util.CommandMessage.ARCHIVE_NOTES_MESSAGE;
@@ -139,83 +141,91 @@ public class ListNoteCommand extends Command {
             return formatNotes(PINNED_NOTES_MESSAGE, UNPINNED_NOTES_MESSAGE, pinned, unpinned, notebook);
         }
 
-        // Obtaining ArrayList<String> of tags and parsing it to get an ArrayList<Tag> of tags
-        Map<Tag, ArrayList<TaggableObject>> tagMap = tagManager.getTagMap();
-        ArrayList<Tag> tagList = new ArrayList<>();
+        // Each /tag is a tag expression, and a note is listed if it matches any of them.
+        // The expressions are answered with the bitmaps of note ids, which only cover the notes that are not archived.
+        ArrayList<TagExpression> tagExpressions = new ArrayList<>();
+        boolean hasExistingTag = false;
 
         for (String tag : tags) {
-            Tag currentTag = tagManager.getTag(tag);
-
-            if (currentTag != null) {
-                tagList.add(currentTag);
+            TagExpression tagExpression;
+            try {
+                tagExpression = TagExpression.parse(tag);
+            } catch (SystemException exception) {
+                return Formatter.formatString(exception.getMessage());
             }
+            hasExistingTag |= tagExpression.hasExistingTag(tagManager);
+            tagExpressions.add(tagExpression);
         }
 
         // Check if the user inputted tags match any of the existing tags.
-        if (tagList.isEmpty()) {
+        if (!hasExistingTag) {
             return Formatter.formatString(INVALID_TAG_MESSAGE);
         }
 
-        // Based on user inputted tags, will store the respective values (notes) in an ArrayList
-        // E.g. if user input 2 tags, CS2113 and important, will have 2 ArrayList of notes
-        //      1 for the values corresponding to CS2113 and the other for important tag
-        ArrayList<ArrayList<Note>> values = new ArrayList<>();
-
-        for (int i = 0; i < tagList.size(); i++) {
-            ArrayList<TaggableObject> taggableObject = tagMap.get(tagList.get(i));
-            ArrayList<Note> tagObjectsAsNote = new ArrayList<>();
-            for (TaggableObject tagObject : taggableObject) {
-                if (tagObject instanceof Note) {
-                    tagObjectsAsNote.add((Note) tagObject);
-                }
-            }
-            values.add(tagObjectsAsNote);
-        }
-
-        // Account for note duplicates (multiple tags) and if archived.
-        // For e.g. In case an item has both CS2113 and Important tag
-        // Or if a note is archived
-        for (ArrayList<Note> value : values) {
-            for (Note note : value) {
-                if (!notes.contains(note) && !note.getIsArchived()) {
-                    notes.add(note);
-                }
-            }
+        // Notes are listed tag by tag, in the order they were tagged, without repeating a note that matched before.
+        // Notes matching an expression of several tags are listed in the order they were added to the notebook.
+        // The matching notes of each expression are split into pinned and unpinned notes with the pinned bitmap.
+        BitSet noteIds = notebook.getNoteIds();
+        BitSet pinnedNoteIds = notebook.getPinnedNoteIds();
+        BitSet listedNoteIds = new BitSet();
+        pinned = new ArrayList<>();
+        unpinned = new ArrayList<>();
+
+        for (TagExpression tagExpression : tagExpressions) {
+            BitSet matchingNoteIds = tagExpression.evaluate(tagManager, noteIds);
+            matchingNoteIds.andNot(listedNoteIds);
+            listedNoteIds.or(matchingNoteIds);
+
+            BitSet matchingPinnedNoteIds = (BitSet) matchingNoteIds.clone();
+            matchingPinnedNoteIds.and(pinnedNoteIds);
+            matchingNoteIds.andNot(pinnedNoteIds);
+
+            Tag tag = tagExpression.getSingleTag(tagManager);
+            addTaggedNotes(pinned, matchingPinnedNoteIds, tag);
+            addTaggedNotes(unpinned, matchingNoteIds, tag);
         }
 
         // Checking for empty notes List
-        if (notes.isEmpty()) {
+        if (listedNoteIds.isEmpty()) {
             return Formatter.formatString(EMPTY_NOTEBOOK_MESSAGE);
         }
 
         // if no /archive or pinned notes and there are /tags
-        if (!notebook.checkPinned() && tags != null) {
-            ArrayList<Note> sortedTaggedNotes;
-
+        if (!pinnedNoteIds.intersects(noteIds)) {
             if (isSorted) {
                 // Sort the tagged notes
-                sortedTaggedNotes = notebook.getSortedList(isAscendingOrder, null, notes);
-            } else {
-                sortedTaggedNotes = notes;
+                unpinned = notebook.getSortedList(isAscendingOrder, null, unpinned);
             }
-            return formatNotes(LIST_NOTES_MESSAGE, sortedTaggedNotes, notebook);
+            return formatNotes(LIST_NOTES_MESSAGE, unpinned, notebook);
         }
 
         // if no /archive and there are both pinned notes and /tags
-        if (notebook.checkPinned() && tags != null) {
-            if (!isSorted) {
-                // get notes in default order
-                pinned = notebook.getPinnedNotes(notes);
-                unpinned = notebook.getUnpinnedNotes(notes);
-            } else {
-                // get notes sorted alphabetically from the main notebook (isPinned is a flag to get filtered notes)
-                pinned = notebook.getSortedList(isAscendingOrder, true, notes);
-                unpinned = notebook.getSortedList(isAscendingOrder, false, notes);
-            }
+        if (isSorted) {
+            // sort the pinned and unpinned tagged notes separately
+            pinned = notebook.getSortedList(isAscendingOrder, null, pinned);
+            unpinned = notebook.getSortedList(isAscendingOrder, null, unpinned);
+        }
+        return formatNotes(PINNED_NOTES_MESSAGE, UNPINNED_NOTES_MESSAGE, pinned, unpinned, notebook);
+    }
 
-            return formatNotes(PINNED_NOTES_MESSAGE, UNPINNED_NOTES_MESSAGE, pinned, unpinned, notebook);
+    /**
+     * Adds the notes with the given ids to a list. The notes of a single tag are added in the order they were tagged,
+     * and other notes in the order they were added to the notebook.
+     *
+     * @param notes List to add the notes to.
+     * @param noteIds Ids of the notes to be added.
+     * @param tag The tag the notes were matched by, or null if they were matched by an expression of several tags.
+     */
+    private void addTaggedNotes(ArrayList<Note> notes, BitSet noteIds, Tag tag) {
+        if (tag == null) {
+            notes.addAll(notebook.getNotes(noteIds));
+            return;
         }
 
-        return formatNotes(LIST_NOTES_MESSAGE, notes, notebook);
+        for (TaggableObject tagObject : tagManager.getTagMap().get(tag)) {
+            if (tagObject instanceof Note && noteIds.get(((Note) tagObject).getId())) {
+                notes.add((Note) tagObject);
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -66,24 +66,19 @@ public class PinCommand extends Command {
             }
             LOGGER.log(Level.INFO, "Note found using index");
         } else {
-            for (Note notes : notebook.getNotes()) {
-                if (notes.getTitle().equalsIgnoreCase(title)) {
-                    note = notes;
-                    LOGGER.log(Level.INFO, "Note found using title of note");
-                }
+            note = notebook.findNote(title, false);
+            if (note == null) {
+                LOGGER.log(Level.INFO, "Note does not exist. unable to find note with title " + title);
+                return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
             }
+            LOGGER.log(Level.INFO, "Note found using title of note");
         }
 
-        if (note == null) {
-            LOGGER.log(Level.INFO, "Note does not exist.");
-            return Formatter.formatString(NOTE_DOES_NOT_EXIST_MESSAGE);
-        }
-
-        note.togglePinned();
+        notebook.togglePinned(note);
         LOGGER.log(Level.INFO, "Pin status of note toggled");
 
         try {
-            storageManager.saveAllNoteDetails(false);
+            storageManager.saveNoteDetails(note, false);
         } catch (IOException e) {
             return Formatter.formatString(e.getMessage());
         }
@@ -0,0 +1,62 @@
+package seedu.notus.command;
+
+import seedu.notus.data.tag.Tag;
+import seedu.notus.data.tag.TagUsage;
+import seedu.notus.ui.Formatter;
+
+import java.util.ArrayList;
+
+import static seedu.notus.util.CommandMessage.NO_TAG_MESSAGE;
+import static seedu.notus.util.CommandMessage.TOP_TAG_MESSAGE;
+import static seedu.notus.util.CommandMessage.UNUSED_TAG_MESSAGE;
+import static seedu.notus.util.PrefixSyntax.SUFFIX_INDEX;
+
+/**
+ * Shows the most used Tags and the Tags that are not used by any Note or Event.
+ */
+public class StatsTagCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats-t";
+
+    public static final int DEFAULT_TOP_COUNT = 5;
+
+    private int topCount;
+
+    /**
+     * Constructs a StatsTagCommand to show a number of the most used Tags.
+     *
+     * @param topCount Number of the most used Tags to show.
+     */
+    public StatsTagCommand(int topCount) {
+        this.topCount = topCount;
+    }
+
+    public StatsTagCommand() {
+        this(DEFAULT_TOP_COUNT);
+    }
+
+    @Override
+    public String execute() {
+        ArrayList<TagUsage> topUsages = tagManager.getTopUsages(topCount);
+        ArrayList<Tag> unusedTags = tagManager.getUnusedTags();
+
+        if (topUsages.isEmpty() && unusedTags.isEmpty()) {
+            return Formatter.formatString(NO_TAG_MESSAGE);
+        }
+
+        ArrayList<String> executedResult = new ArrayList<>();
+        if (!topUsages.isEmpty()) {
+            executedResult.add(TOP_TAG_MESSAGE);
+            for (int i = 0; i < topUsages.size(); i++) {
+                executedResult.add((i + 1) + SUFFIX_INDEX + topUsages.get(i));
+            }
+        }
+        if (!unusedTags.isEmpty()) {
+            executedResult.add(UNUSED_TAG_MESSAGE);
+            for (Tag tag : unusedTags) {
+                executedResult.add(tag.toString());
+            }
+        }
+        return Formatter.formatString(executedResult, true);
+    }
+}
@@ -43,7 +43,7 @@ public class TagNoteCommand extends Command {
 
             // save the changed details
             try {
-                storageManager.saveAllNoteDetails(false);
+                storageManager.saveNoteDetails(note, false);
             } catch (IOException e) {
                 return Formatter.formatString(FILE_WRITE_UNSUCCESSFUL_MESSAGE);
             }
@@ -60,13 +60,16 @@ public class UnarchiveNoteCommand extends Command {
                 }
             }
 
+            if (tagManager != null) {
+                tagManager.updateArchived(notebook.getNote(title, false));
+            }
+
             try {
-                storageManager.saveAllNoteDetails(true);
-                storageManager.saveAllNoteDetails(false);
+                storageManager.deleteNoteDetails(title, true);
+                storageManager.saveNoteDetails(notebook.getNote(title, false), false);
 
-                // delete the content file from unarchived notes and add it to archived
-                storageManager.deleteNoteContentFile(title, true);
-                storageManager.saveNoteContent(notebook.getNote(title, false), false);
+                // move the content file from archived notes to unarchived notes
+                storageManager.moveNoteContentFile(title, true);
 
             } catch (IOException exception) {
                 return Formatter.formatString(FILE_WRITE_UNSUCCESSFUL_MESSAGE);
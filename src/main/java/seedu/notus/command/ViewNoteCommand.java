@@ -68,12 +68,11 @@ public class ViewNoteCommand extends Command {
             LOGGER.log(Level.INFO, "Note found using index");
             noteExists = true;
         } else {
-            for (Note notes : notebook.getNotes()) {
-                if (notes.getTitle().equalsIgnoreCase(title)) {
-                    note = notes;
-                    noteExists = true;
-                    LOGGER.log(Level.INFO, "Note found using title of note");
-                }
+            Note foundNote = notebook.findNote(title, false);
+            if (foundNote != null) {
+                note = foundNote;
+                noteExists = true;
+                LOGGER.log(Level.INFO, "Note found using title of note");
             }
         }
         if (!noteExists) {
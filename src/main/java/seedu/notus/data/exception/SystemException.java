@@ -26,6 +26,10 @@ public class SystemException extends Exception {
 
         EXCEPTION_MISSING_TAG_PREFIX("Missing tag prefix!"),
         EXCEPTION_MISSING_TAG("Missing tag name!"),
+        EXCEPTION_MISSING_TOP("Missing number of tags to show!"),
+        EXCEPTION_INVALID_TOP("The number of tags to show must be a positive number!"),
+        EXCEPTION_INVALID_TAG_EXPRESSION("Invalid tag expression! Combine tags with AND, OR, NOT and brackets, "
+                + "and put tag names such as \"or\" in double quotes."),
 
         EXCEPTION_MISSING_SORT("Missing sort order! Please specify how you would like to sort. "
                 + "up or down."),
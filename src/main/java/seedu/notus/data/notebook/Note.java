@@ -4,6 +4,10 @@ import seedu.notus.data.tag.Tag;
 import seedu.notus.data.tag.TaggableObject;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static seedu.notus.util.PrefixSyntax.PREFIX_ARCHIVE;
 import static seedu.notus.util.PrefixSyntax.PREFIX_DELIMITER;
@@ -18,10 +22,16 @@ import static seedu.notus.ui.Formatter.LS;
  */
 public class Note extends TaggableObject {
 
+    /** Id of the next note to be constructed. */
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    /** Small number that identifies the note in the bitmap indexes of the notebook and the tags. */
+    private final int id = NEXT_ID.getAndIncrement();
     private String title;
     private ArrayList<String> content;
     private Boolean isPinned;
     private boolean isArchived;
+    private NoteContentLoader contentLoader;
 
     /**
      * Constructs a Note object with its title, content and pinned status provided.
@@ -51,6 +61,10 @@ public class Note extends TaggableObject {
         super.setTags(tags);
     }
 
+    public int getId() {
+        return id;
+    }
+
     /**
      * Gets the title of note from existing data.
      *
@@ -73,13 +87,72 @@ public class Note extends TaggableObject {
      * @return content of the note.
      */
     public ArrayList<String> getContent() {
+        if (content == null && contentLoader != null) {
+            content = contentLoader.loadContent(this);
+        }
         return content;
     }
 
+    /**
+     * Gets the content of note without keeping it in memory if it is not loaded yet, for content that is only
+     * read once, such as when the note is indexed.
+     *
+     * @return content of the note.
+     */
+    public ArrayList<String> readContent() {
+        if (content == null && contentLoader != null) {
+            return contentLoader.readContent(this);
+        }
+        return content;
+    }
+
+    /**
+     * Gets the content of several notes without keeping it in memory, like readContent. The contents that are
+     * not loaded yet are read together from their source.
+     *
+     * @param notes Notes whose content is to be read.
+     * @return contents of the notes, in the order of the notes.
+     */
+    public static ArrayList<ArrayList<String>> readContents(List<Note> notes) {
+        ArrayList<ArrayList<String>> contents = new ArrayList<>();
+        IdentityHashMap<NoteContentLoader, ArrayList<Integer>> unloadedPositions = new IdentityHashMap<>();
+        for (int i = 0; i < notes.size(); i++) {
+            Note note = notes.get(i);
+            contents.add(note.content);
+            if (note.content == null && note.contentLoader != null) {
+                unloadedPositions.computeIfAbsent(note.contentLoader, loader -> new ArrayList<>()).add(i);
+            }
+        }
+
+        for (Map.Entry<NoteContentLoader, ArrayList<Integer>> entry : unloadedPositions.entrySet()) {
+            ArrayList<Note> unloadedNotes = new ArrayList<>();
+            for (int position : entry.getValue()) {
+                unloadedNotes.add(notes.get(position));
+            }
+            ArrayList<ArrayList<String>> readContents = entry.getKey().readContents(unloadedNotes);
+            for (int i = 0; i < unloadedNotes.size(); i++) {
+                contents.set(entry.getValue().get(i), readContents.get(i));
+            }
+        }
+        return contents;
+    }
+
+    /**
+     * Gets the first line of the content of note without loading the rest of the content.
+     *
+     * @return first line of the content, empty if the note has no content.
+     */
+    public String getContentPreview() {
+        if (content == null && contentLoader != null) {
+            return contentLoader.loadPreview(this);
+        }
+        return (content == null || content.isEmpty()) ? "" : content.get(0);
+    }
+
     public String getContentString() {
         String contentString = "";
 
-        for (String information: content) {
+        for (String information: getContent()) {
             contentString += information + LS;
         }
         return contentString;
@@ -92,6 +165,30 @@ public class Note extends TaggableObject {
         this.content = content;
     }
 
+    /**
+     * Sets the source of the content so that the content is only loaded when it is first needed.
+     * Any content held in memory is discarded.
+     *
+     * @param contentLoader source of the content of the note.
+     */
+    public void setContentLoader(NoteContentLoader contentLoader) {
+        this.contentLoader = contentLoader;
+        this.content = null;
+    }
+
+    public boolean isContentLoaded() {
+        return content != null;
+    }
+
+    /**
+     * Discards the content held in memory if it can be loaded again from its source.
+     */
+    public void unloadContent() {
+        if (contentLoader != null) {
+            content = null;
+        }
+    }
+
     /**
      * Gets the pinned status of a note.
      *
@@ -0,0 +1,42 @@
+package seedu.notus.data.notebook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a source that the content of a Note can be loaded from on demand.
+ */
+public interface NoteContentLoader {
+
+    /**
+     * Loads the full content of the note.
+     *
+     * @param note Note whose content is to be loaded.
+     * @return content of the note.
+     */
+    ArrayList<String> loadContent(Note note);
+
+    /**
+     * Reads the full content of the note without keeping it in memory.
+     *
+     * @param note Note whose content is to be read.
+     * @return content of the note.
+     */
+    ArrayList<String> readContent(Note note);
+
+    /**
+     * Reads the full content of several notes at once without keeping it in memory.
+     *
+     * @param notes Notes whose content is to be read.
+     * @return contents of the notes, in the order of the notes.
+     */
+    ArrayList<ArrayList<String>> readContents(List<Note> notes);
+
+    /**
+     * Loads only the first line of the content of the note.
+     *
+     * @param note Note whose content is to be previewed.
+     * @return first line of the content of the note.
+     */
+    String loadPreview(Note note);
+}
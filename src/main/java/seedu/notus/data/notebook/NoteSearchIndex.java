@@ -0,0 +1,176 @@
+package seedu.notus.data.notebook;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Represents an inverted index over the words in the titles and content of notes, used to find notes by keywords.
+ * Every suffix of every word is stored as a key, so the words that contain a keyword are found with a single range
+ * lookup over the sorted keys, just as a plain search of the text would find them. The number of keys starting with
+ * a keyword in a note is the number of times the keyword occurs in the note, which is used to rank the notes found.
+ *
+ * <p>Storing every suffix makes the memory used for a word quadratic in its length. A distinct word of L letters
+ * adds L keys of L(L + 1) / 2 letters in total for each note that it occurs in, so a 6 letter word adds 21 letters
+ * but a 40 letter run of letters and digits, such as a hash, adds 820. Notes made of ordinary words cost a few
+ * times the size of their text, while notes holding long tokens cost much more.
+ */
+public class NoteSearchIndex {
+    /** Keyword that separates alternative groups of keywords in a query. */
+    public static final String OPERATOR_OR = "OR";
+    /** Keyword that may be placed between keywords that must all be found, which is the default. */
+    public static final String OPERATOR_AND = "AND";
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /** Number of occurrences of each key in each note, by the id of the note. */
+    private final TreeMap<String, HashMap<Integer, Integer>> postings = new TreeMap<>();
+
+    /** Occurrences of the keys of each indexed note, so that the note can be removed again. */
+    private final HashMap<Integer, HashMap<String, Integer>> keysByNote = new HashMap<>();
+
+    /**
+     * Indexes the title and content of a note, replacing what was indexed for the note before.
+     * Content that is not in memory is read for the index and discarded again.
+     *
+     * @param note refers to the note to be indexed.
+     */
+    public void addNote(Note note) {
+        addNote(note, note.readContent());
+    }
+
+    /**
+     * Indexes the title of a note and the given content of the note, replacing what was indexed for the note before.
+     *
+     * @param note refers to the note to be indexed.
+     * @param content refers to the content of the note, which may be null if the note has no content.
+     */
+    public void addNote(Note note, ArrayList<String> content) {
+        removeNote(note);
+
+        HashMap<String, Integer> keys = new HashMap<>();
+        addKeys(note.getTitle(), keys);
+        if (content != null) {
+            for (String line : content) {
+                addKeys(line, keys);
+            }
+        }
+
+        keysByNote.put(note.getId(), keys);
+        for (Map.Entry<String, Integer> key : keys.entrySet()) {
+            postings.computeIfAbsent(key.getKey(), k -> new HashMap<>()).put(note.getId(), key.getValue());
+        }
+    }
+
+    /**
+     * Removes a note from the index. Nothing happens if the note is not indexed.
+     *
+     * @param note refers to the note to be removed.
+     */
+    public void removeNote(Note note) {
+        HashMap<String, Integer> keys = keysByNote.remove(note.getId());
+        if (keys == null) {
+            return;
+        }
+
+        for (String key : keys.keySet()) {
+            HashMap<Integer, Integer> occurrences = postings.get(key);
+            occurrences.remove(note.getId());
+            if (occurrences.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Finds the notes that match a query. Keywords are matched case-insensitively against the words in the title
+     * and content of the notes. A note matches a group of keywords if it contains every keyword of the group, and
+     * matches the query if it matches any of the groups, which are separated by {@value #OPERATOR_OR}.
+     *
+     * @param query String containing the keywords.
+     * @return Map of the ids of the matching notes to the number of times the keywords occur in the note.
+     */
+    public HashMap<Integer, Integer> search(String query) {
+        HashMap<Integer, Integer> scores = new HashMap<>();
+
+        for (ArrayList<String> group : parseQuery(query)) {
+            HashMap<Integer, Integer> groupScores = null;
+            for (String keyword : group) {
+                HashMap<Integer, Integer> keywordScores = getOccurrences(keyword);
+                if (groupScores == null) {
+                    groupScores = keywordScores;
+                } else {
+                    groupScores.keySet().retainAll(keywordScores.keySet());
+                    groupScores.replaceAll((id, count) -> count + keywordScores.get(id));
+                }
+                if (groupScores.isEmpty()) {
+                    break;
+                }
+            }
+            groupScores.forEach((id, count) -> scores.merge(id, count, Integer::sum));
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the number of times a keyword occurs in each note that contains it.
+     */
+    private HashMap<Integer, Integer> getOccurrences(String keyword) {
+        HashMap<Integer, Integer> occurrences = new HashMap<>();
+        for (HashMap<Integer, Integer> keyOccurrences
+                : postings.subMap(keyword, true, keyword + Character.MAX_VALUE, false).values()) {
+            keyOccurrences.forEach((id, count) -> occurrences.merge(id, count, Integer::sum));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Splits a query into groups of keywords, dropping the groups without any keyword.
+     */
+    private static ArrayList<ArrayList<String>> parseQuery(String query) {
+        ArrayList<ArrayList<String>> groups = new ArrayList<>();
+        ArrayList<String> group = new ArrayList<>();
+
+        for (String token : query.trim().split("\\s+")) {
+            if (token.equals(OPERATOR_OR)) {
+                if (!group.isEmpty()) {
+                    groups.add(group);
+                }
+                group = new ArrayList<>();
+            } else if (!token.equals(OPERATOR_AND)) {
+                group.addAll(getWords(token));
+            }
+        }
+        if (!group.isEmpty()) {
+            groups.add(group);
+        }
+        return groups;
+    }
+
+    /**
+     * Adds every suffix of every word of a text to the keys, which is quadratic in the length of each word.
+     */
+    private static void addKeys(String text, HashMap<String, Integer> keys) {
+        for (String word : getWords(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                keys.merge(word.substring(i), 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Returns the lower-case words of a text, which are the runs of letters and digits in it.
+     */
+    private static ArrayList<String> getWords(String text) {
+        ArrayList<String> words = new ArrayList<>();
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
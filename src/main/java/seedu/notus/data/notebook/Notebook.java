@@ -1,9 +1,15 @@
 package seedu.notus.data.notebook;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 //@@author R-Ramana
@@ -11,16 +17,49 @@ import java.util.stream.Collectors;
  * Represents a Notebook object. Contains all the notes.
  */
 public class Notebook {
+    /** Number of notes whose content is read together when the search index is built. */
+    private static final int SEARCH_INDEX_BATCH_SIZE = 256;
 
     private ArrayList<Note> notes;
     private ArrayList<Note> archivedNotes;
 
+    /** Case-insensitive title indexes of the notes and archived notes. */
+    private HashMap<String, Note> noteIndex;
+    private HashMap<String, Note> archivedNoteIndex;
+
+    /** Notes by their id, and bitmaps of the ids of all the notes, the pinned notes and the archived notes. */
+    private HashMap<Integer, Note> notesById;
+    private BitSet noteIds;
+    private BitSet pinnedNoteIds;
+    private BitSet archivedNoteIds;
+
+    /**
+     * Keys that order the notes that are not archived by their position in the notebook, by the id of the note.
+     * Notes are only appended to the notebook or replaced in place, so a note keeps its key while it is listed.
+     */
+    private HashMap<Integer, Long> notePositions;
+    private long nextNotePosition;
+
+    /** Notes whose details have changed since they were last saved. */
+    private Set<Note> changedNotes;
+
+    /** Inverted index over the words of the notes, built when the notes are first searched. */
+    private NoteSearchIndex searchIndex;
+
     /**
      * Creates a new list of notes.
      */
     public Notebook() {
         notes = new ArrayList<>();
         archivedNotes = new ArrayList<>();
+        noteIndex = new HashMap<>();
+        archivedNoteIndex = new HashMap<>();
+        notesById = new HashMap<>();
+        noteIds = new BitSet();
+        pinnedNoteIds = new BitSet();
+        archivedNoteIds = new BitSet();
+        notePositions = new HashMap<>();
+        changedNotes = Collections.newSetFromMap(new IdentityHashMap<>());
     }
 
     /**
@@ -29,7 +68,67 @@ public class Notebook {
      * @param notes ArrayList of Note consisting of existing data.
      */
     public Notebook(ArrayList<Note> notes) {
+        this();
         this.notes = notes;
+        for (Note note : notes) {
+            noteIndex.put(getTitleKey(note.getTitle()), note);
+            indexNoteId(note);
+        }
+    }
+
+    /**
+     * Records the id of a note in the notebook in the bitmaps that match its archived and pinned status.
+     *
+     * @param note refers to the note in the notebook.
+     */
+    private void indexNoteId(Note note) {
+        int id = note.getId();
+        notesById.put(id, note);
+        noteIds.set(id);
+        archivedNoteIds.set(id, note.getIsArchived());
+        pinnedNoteIds.set(id, note.getPinned());
+        if (note.getIsArchived()) {
+            notePositions.remove(id);
+        } else if (!notePositions.containsKey(id)) {
+            notePositions.put(id, nextNotePosition++);
+        }
+
+        if (searchIndex == null) {
+            return;
+        }
+        if (note.getIsArchived()) {
+            searchIndex.removeNote(note);
+        } else {
+            searchIndex.addNote(note);
+        }
+    }
+
+    /**
+     * Removes the id of a note that is no longer in the notebook from the bitmaps.
+     *
+     * @param note refers to the note removed from the notebook.
+     */
+    private void unindexNoteId(Note note) {
+        int id = note.getId();
+        notesById.remove(id);
+        noteIds.clear(id);
+        archivedNoteIds.clear(id);
+        pinnedNoteIds.clear(id);
+        notePositions.remove(id);
+
+        if (searchIndex != null) {
+            searchIndex.removeNote(note);
+        }
+    }
+
+    /**
+     * Returns the key of a title in the title indexes. Titles are compared case-insensitively.
+     *
+     * @param title String containing the title of the note.
+     * @return key of the title.
+     */
+    private static String getTitleKey(String title) {
+        return title.toLowerCase();
     }
 
     /**
@@ -122,6 +221,67 @@ public class Notebook {
         return noteList;
     }
 
+    /**
+     * Toggles the pinned status of a note in the notebook.
+     * The pinned status of notes in the notebook should be changed through this method to keep the pinned bitmap
+     * up to date.
+     *
+     * @param note refers to the note to be pinned or unpinned.
+     */
+    public void togglePinned(Note note) {
+        note.togglePinned();
+        if (notesById.get(note.getId()) == note) {
+            pinnedNoteIds.set(note.getId(), note.getPinned());
+        }
+    }
+
+    /**
+     * Returns the ids of the notes in the notebook, excluding the archived notes.
+     *
+     * @return BitSet of the note ids, which may be changed by the caller.
+     */
+    public BitSet getNoteIds() {
+        BitSet ids = (BitSet) noteIds.clone();
+        ids.andNot(archivedNoteIds);
+        return ids;
+    }
+
+    /**
+     * Returns the ids of the pinned notes, including pinned notes that are archived.
+     *
+     * @return BitSet of the note ids, which may be changed by the caller.
+     */
+    public BitSet getPinnedNoteIds() {
+        return (BitSet) pinnedNoteIds.clone();
+    }
+
+    /**
+     * Returns the ids of the archived notes.
+     *
+     * @return BitSet of the note ids, which may be changed by the caller.
+     */
+    public BitSet getArchivedNoteIds() {
+        return (BitSet) archivedNoteIds.clone();
+    }
+
+    /**
+     * Gets the notes in the notebook or the archived notes with the specified ids, in the order they were created.
+     * Ids of notes that are no longer in the notebook are skipped.
+     *
+     * @param ids BitSet of the ids of the notes.
+     * @return noteList ArrayList containing the notes.
+     */
+    public ArrayList<Note> getNotes(BitSet ids) {
+        ArrayList<Note> noteList = new ArrayList<>();
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            Note note = notesById.get(id);
+            if (note != null) {
+                noteList.add(note);
+            }
+        }
+        return noteList;
+    }
+
     /**
      * Sorts the notebook alphabetically (a-z).
      * Depending on the isAscending order boolean value, sort order can be reversed (z-a).
@@ -226,15 +386,25 @@ public class Notebook {
      * @return note that was filtered.
      */
     public Note getNote(String noteTitle, boolean isArchive) {
-        if (!isArchive) {
-            return notes.stream()
-                    .filter((s) -> s.getTitle().equalsIgnoreCase(noteTitle))
-                    .findFirst().get();
+        Note note = findNote(noteTitle, isArchive);
+        if (note == null) {
+            throw new NoSuchElementException(noteTitle);
         }
+        return note;
+    }
 
-        return archivedNotes.stream()
-                .filter((s) -> s.getTitle().equalsIgnoreCase(noteTitle))
-                .findFirst().get();
+    /**
+     * Looks up the note with a matching title in the specified notebook.
+     *
+     * @param noteTitle String containing the title of the note.
+     * @param isArchive boolean specifies whether to look up the archive notebook or the notes notebook.
+     * @return note with the matching title, null if there is no such note.
+     */
+    public Note findNote(String noteTitle, boolean isArchive) {
+        if (!isArchive) {
+            return noteIndex.get(getTitleKey(noteTitle));
+        }
+        return archivedNoteIndex.get(getTitleKey(noteTitle));
     }
 
     /**
@@ -244,7 +414,7 @@ public class Notebook {
      * @return if the note exist.
      */
     public boolean getNote(String noteTitle) {
-        return notes.stream().anyMatch(note -> note.getTitle().equalsIgnoreCase(noteTitle));
+        return noteIndex.containsKey(getTitleKey(noteTitle));
     }
 
     /**
@@ -254,7 +424,7 @@ public class Notebook {
      * @return if the note exist.
      */
     public boolean getArchiveNote(String noteTitle) {
-        return archivedNotes.stream().anyMatch(note -> note.getTitle().equalsIgnoreCase(noteTitle));
+        return archivedNoteIndex.containsKey(getTitleKey(noteTitle));
     }
 
     /**
@@ -265,9 +435,13 @@ public class Notebook {
     public void addNote(Note note) {
         if (note.getIsArchived()) {
             archivedNotes.add(note);
+            archivedNoteIndex.put(getTitleKey(note.getTitle()), note);
         } else {
             notes.add(note);
+            noteIndex.put(getTitleKey(note.getTitle()), note);
         }
+        indexNoteId(note);
+        changedNotes.add(note);
     }
 
     /**
@@ -277,7 +451,10 @@ public class Notebook {
      * @return if the note is deleted.
      */
     public boolean deleteNote(int index) {
-        notes.remove(index);
+        Note deletedNote = notes.remove(index);
+        noteIndex.remove(getTitleKey(deletedNote.getTitle()));
+        unindexNoteId(deletedNote);
+        changedNotes.remove(deletedNote);
         return true;
     }
 
@@ -288,7 +465,13 @@ public class Notebook {
      * @return if the note is deleted.
      */
     public boolean deleteNote(String title) {
-        return notes.removeIf(note -> note.getTitle().equalsIgnoreCase(title));
+        Note deletedNote = noteIndex.remove(getTitleKey(title));
+        if (deletedNote == null) {
+            return false;
+        }
+        unindexNoteId(deletedNote);
+        changedNotes.remove(deletedNote);
+        return notes.remove(deletedNote);
     }
 
     /**
@@ -298,7 +481,36 @@ public class Notebook {
      * @param note refers to the note to be added.
      */
     public void setNotes(int index, Note note) {
-        notes.set(index, note);
+        Note replacedNote = notes.set(index, note);
+        noteIndex.remove(getTitleKey(replacedNote.getTitle()));
+        noteIndex.put(getTitleKey(note.getTitle()), note);
+        Long position = notePositions.get(replacedNote.getId());
+        unindexNoteId(replacedNote);
+        indexNoteId(note);
+        notePositions.put(note.getId(), position);
+        changedNotes.remove(replacedNote);
+        changedNotes.add(note);
+    }
+
+    /**
+     * Changes the title of a note in the notebook and updates the title index.
+     *
+     * @param note refers to the note to be renamed.
+     * @param newTitle String containing the new title of the note.
+     */
+    public void renameNote(Note note, String newTitle) {
+        HashMap<String, Note> index = note.getIsArchived() ? archivedNoteIndex : noteIndex;
+
+        if (index.get(getTitleKey(note.getTitle())) == note) {
+            index.remove(getTitleKey(note.getTitle()));
+        }
+        note.setTitle(newTitle);
+        index.put(getTitleKey(newTitle), note);
+        changedNotes.add(note);
+
+        if (searchIndex != null && !note.getIsArchived()) {
+            searchIndex.addNote(note);
+        }
     }
 
     /**
@@ -314,6 +526,10 @@ public class Notebook {
         archivedNotes.add(archivedNote);
         archivedNote.toggleArchived();
         notes.remove(index);
+        noteIndex.remove(getTitleKey(archivedNote.getTitle()));
+        archivedNoteIndex.put(getTitleKey(archivedNote.getTitle()), archivedNote);
+        indexNoteId(archivedNote);
+        changedNotes.add(archivedNote);
 
         return archivedNote.getTitle();
     }
@@ -335,6 +551,9 @@ public class Notebook {
         if (isDeleted) {
             archivedNotes.add(archivedNote);
             archivedNote.toggleArchived();
+            archivedNoteIndex.put(getTitleKey(archivedNote.getTitle()), archivedNote);
+            indexNoteId(archivedNote);
+            changedNotes.add(archivedNote);
         }
 
         return isDeleted;
@@ -353,6 +572,10 @@ public class Notebook {
         notes.add(unarchivedNote);
         unarchivedNote.toggleArchived();
         archivedNotes.remove(unarchivedNote);
+        archivedNoteIndex.remove(getTitleKey(unarchivedNote.getTitle()));
+        noteIndex.put(getTitleKey(unarchivedNote.getTitle()), unarchivedNote);
+        indexNoteId(unarchivedNote);
+        changedNotes.add(unarchivedNote);
 
         return unarchivedNote.getTitle();
     }
@@ -372,21 +595,93 @@ public class Notebook {
         isDeleted = archivedNotes.remove(unarchivedNote);
 
         if (isDeleted) {
+            archivedNoteIndex.remove(getTitleKey(unarchivedNote.getTitle()));
             notes.add(unarchivedNote);
             unarchivedNote.toggleArchived();
+            noteIndex.put(getTitleKey(unarchivedNote.getTitle()), unarchivedNote);
+            indexNoteId(unarchivedNote);
+            changedNotes.add(unarchivedNote);
         }
 
         return isDeleted;
     }
 
+    /**
+     * Marks the details of a note as changed, so that they are saved with the next save.
+     *
+     * @param note refers to the note that has changed.
+     */
+    public void markChanged(Note note) {
+        changedNotes.add(note);
+    }
+
+    /**
+     * Marks the details of a note as saved.
+     *
+     * @param note refers to the note that has been saved.
+     */
+    public void clearChanged(Note note) {
+        changedNotes.remove(note);
+    }
+
+    /**
+     * Marks the details of every note as saved.
+     */
+    public void clearChanges() {
+        changedNotes.clear();
+    }
+
+    /**
+     * Returns the notes in the notebook whose details have changed since they were last saved.
+     *
+     * @return ArrayList of the changed notes.
+     */
+    public ArrayList<Note> getChangedNotes() {
+        return new ArrayList<>(changedNotes);
+    }
+
     public ArrayList<Note> getArchivedNotes() {
         return archivedNotes;
     }
 
+    /**
+     * Indexes the notes that are not archived. The contents are read a batch of notes at a time, so that they can be
+     * read together while only one batch of contents is held in memory.
+     */
+    private void buildSearchIndex() {
+        searchIndex = new NoteSearchIndex();
+        for (int start = 0; start < notes.size(); start += SEARCH_INDEX_BATCH_SIZE) {
+            List<Note> batch = notes.subList(start, Math.min(notes.size(), start + SEARCH_INDEX_BATCH_SIZE));
+            ArrayList<ArrayList<String>> contents = Note.readContents(batch);
+            for (int i = 0; i < batch.size(); i++) {
+                searchIndex.addNote(batch.get(i), contents.get(i));
+            }
+        }
+    }
+
+    /**
+     * Finds the notes whose title or content contain the keywords, from the note the keywords occur in most often.
+     * Notes in which the keywords occur as often are kept in the order of the notebook. The search index is built
+     * on the first search and kept up to date as notes are added, edited, archived and deleted afterwards.
+     * Archived notes are not indexed, and the content of notes is not kept in memory for the index.
+     * Only the matching notes are looked up and sorted, so a search does not go through the whole notebook.
+     *
+     * @param keywords String containing the keywords, where OR separates alternative groups of keywords.
+     * @return ArrayList of the matching notes.
+     */
     public ArrayList<Note> findNotes(String keywords) {
-        return (ArrayList<Note>) notes.stream()
-                .filter((s) -> s.getTitle().toLowerCase().contains(keywords.toLowerCase()))
-                .collect(Collectors.toList());
+        if (searchIndex == null) {
+            buildSearchIndex();
+        }
+
+        HashMap<Integer, Integer> scores = searchIndex.search(keywords);
+        ArrayList<Note> foundNotes = new ArrayList<>();
+        for (int id : scores.keySet()) {
+            foundNotes.add(notesById.get(id));
+        }
+        foundNotes.sort(Comparator.comparing((Note note) -> scores.get(note.getId())).reversed()
+                .thenComparing(note -> notePositions.get(note.getId())));
+        return foundNotes;
     }
 
     public int getSize() {
@@ -0,0 +1,229 @@
+package seedu.notus.data.tag;
+
+import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.exception.SystemException.ExceptionType;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Locale;
+
+/**
+ * Represents a boolean expression over tag names, such as {@code CS2113 AND NOT (Exam OR Quiz)}.
+ * The keywords AND, OR and NOT are case-insensitive, and NOT binds tighter than AND, which binds tighter than OR.
+ * A tag name in double quotes, such as {@code "or"} or {@code "(draft)"}, is never read as a keyword or bracket.
+ * An expression is evaluated over the bitmaps of note ids that the TagManager keeps for each tag, so that every
+ * operator is a single bitwise operation over the notes.
+ */
+public class TagExpression {
+    private static final String OPERATOR_AND = "and";
+    private static final String OPERATOR_OR = "or";
+    private static final String OPERATOR_NOT = "not";
+    private static final String OPEN_BRACKET = "(";
+    private static final String CLOSE_BRACKET = ")";
+    private static final char QUOTE = '"';
+
+    /** Evaluates a part of an expression to the ids of the notes that match it. */
+    private interface Node {
+        BitSet evaluate(TagManager tagManager, BitSet noteIds);
+    }
+
+    /** Represents a word of an expression, which is only a keyword or bracket if it is not quoted. */
+    private static class Token {
+        private final String text;
+        private final boolean isQuoted;
+
+        private Token(String text, boolean isQuoted) {
+            this.text = text;
+            this.isQuoted = isQuoted;
+        }
+    }
+
+    private final Node root;
+    private final ArrayList<String> tagNames;
+    private final boolean isSingleTagName;
+
+    private TagExpression(Node root, ArrayList<String> tagNames, boolean isSingleTagName) {
+        this.root = root;
+        this.tagNames = tagNames;
+        this.isSingleTagName = isSingleTagName;
+    }
+
+    /**
+     * Parses a tag expression. A single tag name is an expression that matches the notes with the tag.
+     *
+     * @param expression String of tag names combined with AND, OR, NOT and brackets.
+     * @return The parsed TagExpression.
+     * @throws SystemException when the expression is not well-formed.
+     */
+    public static TagExpression parse(String expression) throws SystemException {
+        ArrayList<Token> tokens = tokenize(expression);
+        ExpressionParser parser = new ExpressionParser(tokens);
+        Node root = parser.parseOr();
+        if (parser.hasNext()) {
+            throw new SystemException(ExceptionType.EXCEPTION_INVALID_TAG_EXPRESSION);
+        }
+        return new TagExpression(root, parser.tagNames, tokens.size() == 1);
+    }
+
+    /**
+     * Splits an expression into words at whitespace and brackets, keeping quoted tag names whole.
+     */
+    private static ArrayList<Token> tokenize(String expression) throws SystemException {
+        ArrayList<Token> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        int i = 0;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (c == QUOTE) {
+                int end = expression.indexOf(QUOTE, i + 1);
+                if (word.length() > 0 || end == -1 || end == i + 1) {
+                    throw new SystemException(ExceptionType.EXCEPTION_INVALID_TAG_EXPRESSION);
+                }
+                tokens.add(new Token(expression.substring(i + 1, end), true));
+                i = end + 1;
+                continue;
+            }
+            if (Character.isWhitespace(c) || OPEN_BRACKET.indexOf(c) == 0 || CLOSE_BRACKET.indexOf(c) == 0) {
+                if (word.length() > 0) {
+                    tokens.add(new Token(word.toString(), false));
+                    word.setLength(0);
+                }
+                if (!Character.isWhitespace(c)) {
+                    tokens.add(new Token(String.valueOf(c), false));
+                }
+            } else {
+                word.append(c);
+            }
+            i++;
+        }
+        if (word.length() > 0) {
+            tokens.add(new Token(word.toString(), false));
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns whether any tag named in the expression exists.
+     *
+     * @param tagManager TagManager that holds the tags.
+     * @return True if at least one of the tag names matches an existing tag, false otherwise.
+     */
+    public boolean hasExistingTag(TagManager tagManager) {
+        for (String tagName : tagNames) {
+            if (tagManager.getTag(tagName) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the tag that the expression consists of, if the expression is a single tag name.
+     *
+     * @param tagManager TagManager that holds the tags.
+     * @return The existing tag, or null if the expression is not a single existing tag.
+     */
+    public Tag getSingleTag(TagManager tagManager) {
+        return isSingleTagName ? tagManager.getTag(tagNames.get(0)) : null;
+    }
+
+    /**
+     * Returns the ids of the notes that match the expression. Tag names that do not exist match no note, and NOT
+     * matches the notes that are not matched within the given notes.
+     *
+     * @param tagManager TagManager that holds the note ids of each tag.
+     * @param noteIds Ids of all the notes that can be matched.
+     * @return BitSet of the ids of the matching notes, limited to the given notes.
+     */
+    public BitSet evaluate(TagManager tagManager, BitSet noteIds) {
+        BitSet result = root.evaluate(tagManager, noteIds);
+        result.and(noteIds);
+        return result;
+    }
+
+    /**
+     * Recursive descent parser over the tokens of an expression.
+     */
+    private static class ExpressionParser {
+        private final ArrayList<Token> tokens;
+        private final ArrayList<String> tagNames = new ArrayList<>();
+        private int position = 0;
+
+        private ExpressionParser(ArrayList<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        private boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        private boolean isNext(String keyword) {
+            return hasNext() && !tokens.get(position).isQuoted
+                    && tokens.get(position).text.toLowerCase(Locale.ROOT).equals(keyword);
+        }
+
+        private Node parseOr() throws SystemException {
+            Node node = parseAnd();
+            while (isNext(OPERATOR_OR)) {
+                position++;
+                Node left = node;
+                Node right = parseAnd();
+                node = (tagManager, noteIds) -> {
+                    BitSet result = left.evaluate(tagManager, noteIds);
+                    result.or(right.evaluate(tagManager, noteIds));
+                    return result;
+                };
+            }
+            return node;
+        }
+
+        private Node parseAnd() throws SystemException {
+            Node node = parseNot();
+            while (isNext(OPERATOR_AND)) {
+                position++;
+                Node left = node;
+                Node right = parseNot();
+                node = (tagManager, noteIds) -> {
+                    BitSet result = left.evaluate(tagManager, noteIds);
+                    result.and(right.evaluate(tagManager, noteIds));
+                    return result;
+                };
+            }
+            return node;
+        }
+
+        private Node parseNot() throws SystemException {
+            if (isNext(OPERATOR_NOT)) {
+                position++;
+                Node operand = parseNot();
+                return (tagManager, noteIds) -> {
+                    BitSet result = (BitSet) noteIds.clone();
+                    result.andNot(operand.evaluate(tagManager, noteIds));
+                    return result;
+                };
+            }
+            if (isNext(OPEN_BRACKET)) {
+                position++;
+                Node node = parseOr();
+                if (!isNext(CLOSE_BRACKET)) {
+                    throw new SystemException(ExceptionType.EXCEPTION_INVALID_TAG_EXPRESSION);
+                }
+                position++;
+                return node;
+            }
+            return parseTagName();
+        }
+
+        private Node parseTagName() throws SystemException {
+            if (!hasNext() || isNext(OPERATOR_AND) || isNext(OPERATOR_OR) || isNext(CLOSE_BRACKET)) {
+                throw new SystemException(ExceptionType.EXCEPTION_INVALID_TAG_EXPRESSION);
+            }
+            String tagName = tokens.get(position++).text;
+            tagNames.add(tagName);
+            return (tagManager, noteIds) -> {
+                Tag tag = tagManager.getTag(tagName);
+                return (tag == null) ? new BitSet() : tagManager.getNoteIds(tag);
+            };
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package seedu.notus.data.tag;
 
+import seedu.notus.data.notebook.Note;
+
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
@@ -20,14 +31,37 @@ import static seedu.notus.storage.StorageManager.LOGS_DIR;
 public class TagManager {
     private static final Logger LOGGER = Logger.getLogger("TagManager");
 
-    private Map<Tag, ArrayList<TaggableObject>> tagMap;
+    /** Tags in the order they were created, with the objects that have each tag in the order they were tagged. */
+    private Map<Tag, LinkedHashSet<TaggableObject>> tagMap;
+
+    /** Tags in the map by their name in lower case, so that tags are found regardless of case. */
+    private Map<String, Tag> tagsByName;
+
+    /** Ids of the notes with each tag, for answering tag expressions with bitwise operations. */
+    private Map<Tag, BitSet> noteIdsByTag;
+
+    /** Number of objects with each tag in the order the tags were created, and the tags without objects. */
+    private Map<Tag, TagUsage> usageByTag;
+    private Set<Tag> unusedTags;
+
+    /** Notes that are counted as archived in the usage of their tags. */
+    private Set<Note> archivedNotes;
+
+    /** Objects whose tags have changed since they were last saved. */
+    private Set<TaggableObject> changedObjects;
 
     public TagManager() {
         setupLogger();
-        tagMap = new HashMap<>();
+        tagMap = new LinkedHashMap<>();
+        tagsByName = new HashMap<>();
+        noteIdsByTag = new HashMap<>();
+        usageByTag = new LinkedHashMap<>();
+        unusedTags = new LinkedHashSet<>();
+        archivedNotes = Collections.newSetFromMap(new IdentityHashMap<>());
+        changedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
     }
 
-    public Map<Tag, ArrayList<TaggableObject>> getTagMap() {
+    public Map<Tag, LinkedHashSet<TaggableObject>> getTagMap() {
         return tagMap;
     }
 
@@ -38,12 +72,24 @@ public class TagManager {
      * @return The tag if it exists, null otherwise.
      */
     public Tag getTag(String tagName) {
-        for (Tag t : tagMap.keySet()) {
-            if (t.getTagName().equalsIgnoreCase(tagName)) {
-                return t;
-            }
+        if (tagName == null) {
+            return null;
         }
-        return null;
+        return tagsByName.get(toKey(tagName));
+    }
+
+    private static String toKey(String tagName) {
+        return tagName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the ids of the notes that have a tag.
+     *
+     * @param tag Tag in the map.
+     * @return BitSet of the note ids, which may be changed by the caller.
+     */
+    public BitSet getNoteIds(Tag tag) {
+        return (BitSet) noteIdsByTag.get(tag).clone();
     }
 
     /**
@@ -60,12 +106,17 @@ public class TagManager {
         // If the tag does not exist, creates it.
         if (existingTag == null) {
             LOGGER.log(Level.INFO, "Creating a new tag: " + tag.getTagName());
-            tagMap.put(tag, new ArrayList<>());
+            tagMap.put(tag, new LinkedHashSet<>());
+            tagsByName.put(toKey(tag.getTagName()), tag);
+            noteIdsByTag.put(tag, new BitSet());
+            usageByTag.put(tag, new TagUsage(tag));
+            unusedTags.add(tag);
             return true;
         } else {
             if (overridesColor) {
                 LOGGER.log(Level.INFO, "Overriding an existing tag: " + existingTag.getTagName());
                 existingTag.setTagAttribute(tag.getTagAttribute());
+                changedObjects.addAll(tagMap.get(existingTag));
             }
             return false;
         }
@@ -100,8 +151,17 @@ public class TagManager {
      */
     public void tagObject(TaggableObject taggableObject, Tag tag) {
         LOGGER.log(Level.INFO, "Adding tag to object: " + tag.getTagName());
-        tagMap.get(tag).add(taggableObject);
-        taggableObject.getTags().add(tag);
+        if (taggableObject instanceof Note) {
+            updateArchived((Note) taggableObject);
+        }
+        if (tagMap.get(tag).add(taggableObject)) {
+            changeUsage(taggableObject, tag, 1);
+        }
+        taggableObject.addTag(tag);
+        if (taggableObject instanceof Note) {
+            noteIdsByTag.get(tag).set(((Note) taggableObject).getId());
+        }
+        changedObjects.add(taggableObject);
     }
 
     /**
@@ -112,8 +172,14 @@ public class TagManager {
      */
     public void removeTag(TaggableObject taggableObject, Tag tag) {
         LOGGER.log(Level.INFO, "Removing tag: " + tag.getTagName());
-        tagMap.get(tag).remove(taggableObject);
-        taggableObject.getTags().remove(tag);
+        if (tagMap.get(tag).remove(taggableObject)) {
+            changeUsage(taggableObject, tag, -1);
+        }
+        taggableObject.removeTag(tag);
+        if (taggableObject instanceof Note) {
+            noteIdsByTag.get(tag).clear(((Note) taggableObject).getId());
+        }
+        changedObjects.add(taggableObject);
     }
 
     /**
@@ -131,13 +197,126 @@ public class TagManager {
         }
 
         for (TaggableObject taggableObject : tagMap.get(existingTag)) {
-            taggableObject.getTags().remove(existingTag);
+            taggableObject.removeTag(existingTag);
         }
+        changedObjects.addAll(tagMap.get(existingTag));
         LOGGER.log(Level.INFO, "Delete tag: " + tag.getTagName());
         tagMap.remove(existingTag);
+        tagsByName.remove(toKey(existingTag.getTagName()));
+        noteIdsByTag.remove(existingTag);
+        usageByTag.remove(existingTag);
+        unusedTags.remove(existingTag);
         return true;
     }
 
+    /**
+     * Removes every tag from an object that is deleted. The object is not marked as changed, as it is no longer saved.
+     *
+     * @param taggableObject Object that is deleted.
+     */
+    public void untagObject(TaggableObject taggableObject) {
+        for (Tag tag : taggableObject.getTags()) {
+            if (tagMap.containsKey(tag)) {
+                removeTag(taggableObject, tag);
+            }
+        }
+        archivedNotes.remove(taggableObject);
+        changedObjects.remove(taggableObject);
+    }
+
+    /**
+     * Moves the counts of a note between the archived and unarchived counts of its tags when it has been archived
+     * or unarchived.
+     *
+     * @param note Note whose archived status may have changed.
+     */
+    public void updateArchived(Note note) {
+        boolean isArchived = note.getIsArchived();
+        if (isArchived == archivedNotes.contains(note)) {
+            return;
+        }
+
+        for (Tag tag : note.getTags()) {
+            if (tagMap.containsKey(tag) && tagMap.get(tag).contains(note)) {
+                usageByTag.get(tag).changeNoteCount(!isArchived, -1);
+                usageByTag.get(tag).changeNoteCount(isArchived, 1);
+            }
+        }
+        if (isArchived) {
+            archivedNotes.add(note);
+        } else {
+            archivedNotes.remove(note);
+        }
+    }
+
+    private void changeUsage(TaggableObject taggableObject, Tag tag, int change) {
+        TagUsage usage = usageByTag.get(tag);
+        if (taggableObject instanceof Note) {
+            usage.changeNoteCount(archivedNotes.contains(taggableObject), change);
+        } else {
+            usage.changeEventCount(change);
+        }
+
+        if (usage.getTotalCount() == 0) {
+            unusedTags.add(tag);
+        } else {
+            unusedTags.remove(tag);
+        }
+    }
+
+    /**
+     * Returns the usage of a tag.
+     *
+     * @param tag Tag in the map.
+     * @return Number of objects with the tag.
+     */
+    public TagUsage getUsage(Tag tag) {
+        return usageByTag.get(tag);
+    }
+
+    /**
+     * Returns the most used tags, from the most used. Tags used by as many objects are in the order they were
+     * created. Only the tags that are used by any object are returned.
+     *
+     * @param count Maximum number of tags to return.
+     * @return ArrayList of the usage of at most count tags.
+     */
+    public ArrayList<TagUsage> getTopUsages(int count) {
+        ArrayList<TagUsage> usages = new ArrayList<>(usageByTag.values());
+        // Orders the positions of the usages from the least used, with ties broken by the tag created last.
+        Comparator<Integer> leastUsedFirst = Comparator.<Integer>comparingInt(i -> usages.get(i).getTotalCount())
+                .thenComparing(Comparator.reverseOrder());
+
+        // Keep the most used tags seen so far in a heap with the least used of them on top.
+        PriorityQueue<Integer> topUsages = new PriorityQueue<>(leastUsedFirst);
+        for (int i = 0; i < usages.size() && count > 0; i++) {
+            if (usages.get(i).getTotalCount() == 0) {
+                continue;
+            }
+            topUsages.add(i);
+            if (topUsages.size() > count) {
+                topUsages.poll();
+            }
+        }
+
+        ArrayList<Integer> topPositions = new ArrayList<>(topUsages);
+        topPositions.sort(leastUsedFirst.reversed());
+        ArrayList<TagUsage> result = new ArrayList<>();
+        for (int position : topPositions) {
+            result.add(usages.get(position));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the tags that no object has, in the order they were created or became unused.
+     *
+     * @return ArrayList of the unused tags.
+     */
+    public ArrayList<Tag> getUnusedTags() {
+        return new ArrayList<>(unusedTags);
+    }
+
     /**
      * Handles deletion of multiple tags and returns the result of each deletion.
      *
@@ -160,6 +339,31 @@ public class TagManager {
         return result;
     }
 
+    /**
+     * Returns the objects whose tags have been added, removed or recolored since they were last saved.
+     *
+     * @return ArrayList of the changed objects.
+     */
+    public ArrayList<TaggableObject> getChangedObjects() {
+        return new ArrayList<>(changedObjects);
+    }
+
+    /**
+     * Marks the tags of an object as saved.
+     *
+     * @param taggableObject Object that has been saved.
+     */
+    public void clearChanged(TaggableObject taggableObject) {
+        changedObjects.remove(taggableObject);
+    }
+
+    /**
+     * Marks the tags of every object as saved.
+     */
+    public void clearChanges() {
+        changedObjects.clear();
+    }
+
     /**
      * Returns an arrayList of existing tags' name in the map.
      *
@@ -183,25 +387,22 @@ public class TagManager {
      * @param taggableObject Object to have the tags rebind.
      */
     public void rebindTags(TaggableObject taggableObject) {
-        int numTagsToCheck = taggableObject.getTags().size();
+        ArrayList<Tag> tags = taggableObject.getTags();
+        taggableObject.setTags(new ArrayList<>());
 
-        // loop through all the tags in object
-        for (int i = 0; i < numTagsToCheck; ++i) {
-            // always check against the tag of the first object
-            Tag tag = taggableObject.getTags().get(0);
+        // loop through all the tags in object, keeping their order
+        for (Tag tag : tags) {
             LOGGER.log(Level.INFO, "Attempt to match with existing tag: " + tag.getTagName());
             // check if the tag exists in the database
             Tag existingTag = getTag(tag.getTagName());
-            taggableObject.getTags().remove(tag);
 
             if (existingTag == null) {
                 LOGGER.log(Level.INFO, "Tag does not exist");
                 // if the tag does not exist in the database, create the tag and tag to object
                 createTag(tag, false);
-                tagObject(taggableObject, tag);
-            } else if (!taggableObject.getTags().contains(existingTag)) {
-                tagObject(taggableObject, existingTag);
+                existingTag = tag;
             }
+            tagObject(taggableObject, existingTag);
         }
     }
 
@@ -224,7 +425,7 @@ public class TagManager {
             Tag existingTag = getTag(t.getTagName());
 
             // check if the object contains such tag
-            if (taggableObject.getTags().contains(existingTag)) {
+            if (existingTag != null && taggableObject.hasTag(existingTag)) {
                 removeTag(taggableObject, existingTag);
                 result.add(untagString + existingTag);
             } else {
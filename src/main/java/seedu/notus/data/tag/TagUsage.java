@@ -0,0 +1,66 @@
+package seedu.notus.data.tag;
+
+/**
+ * Represents the number of notes, archived notes and events that have a tag.
+ * The counts are kept up to date by the TagManager as objects are tagged and untagged.
+ */
+public class TagUsage {
+    private final Tag tag;
+    private int noteCount;
+    private int archivedNoteCount;
+    private int eventCount;
+
+    public TagUsage(Tag tag) {
+        this.tag = tag;
+    }
+
+    public Tag getTag() {
+        return tag;
+    }
+
+    /** Returns the number of notes in the notebook, excluding archived notes, that have the tag. */
+    public int getNoteCount() {
+        return noteCount;
+    }
+
+    public int getArchivedNoteCount() {
+        return archivedNoteCount;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /** Returns the number of objects that have the tag. */
+    public int getTotalCount() {
+        return noteCount + archivedNoteCount + eventCount;
+    }
+
+    /**
+     * Changes the count of notes with the tag.
+     *
+     * @param isArchived Whether the notes are archived.
+     * @param change Number of notes to add, or remove if negative.
+     */
+    void changeNoteCount(boolean isArchived, int change) {
+        if (isArchived) {
+            archivedNoteCount += change;
+        } else {
+            noteCount += change;
+        }
+    }
+
+    /**
+     * Changes the count of events with the tag.
+     *
+     * @param change Number of events to add, or remove if negative.
+     */
+    void changeEventCount(int change) {
+        eventCount += change;
+    }
+
+    @Override
+    public String toString() {
+        return tag + " " + noteCount + " notes, " + archivedNoteCount + " archived notes, " + eventCount + " events";
+    }
+}
@@ -1,30 +1,76 @@
 package seedu.notus.data.tag;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 
 //@@author Chongjx
 /**
- * Represents a TaggableObject. Contains an arraylist of tags. To be inherited by Note and Event.
+ * Represents a TaggableObject. Contains a set of tags in the order they were added. To be inherited by Note and Event.
  */
 public abstract class TaggableObject {
-    protected ArrayList<Tag> tags;
+    protected LinkedHashSet<Tag> tags;
 
     public TaggableObject() {
-        this.tags = new ArrayList<>();
+        this.tags = new LinkedHashSet<>();
     }
 
+    /**
+     * Creates a TaggableObject without a set of tags, for subclasses that provide their tags through getTags.
+     *
+     * @param hasTags Whether the object holds a set of tags of its own.
+     */
+    protected TaggableObject(boolean hasTags) {
+        this.tags = hasTags ? new LinkedHashSet<>() : null;
+    }
+
+    /**
+     * Returns the tags of the object in the order they were added. Changes to the returned list do not change the
+     * tags of the object.
+     *
+     * @return ArrayList of the tags.
+     */
     public ArrayList<Tag> getTags() {
-        return tags;
+        return new ArrayList<>(tags);
     }
 
     public void setTags(ArrayList<Tag> tags) {
-        this.tags = tags;
+        this.tags = (tags == null) ? new LinkedHashSet<>() : new LinkedHashSet<>(tags);
+    }
+
+    /**
+     * Checks whether the object has a tag.
+     *
+     * @param tag Tag to check.
+     * @return True if the object has the tag, false otherwise.
+     */
+    public boolean hasTag(Tag tag) {
+        return tags.contains(tag);
+    }
+
+    /**
+     * Adds a tag to the object if it does not have it yet.
+     *
+     * @param tag Tag to add.
+     * @return True if the tag is added, false if the object already has it.
+     */
+    public boolean addTag(Tag tag) {
+        return tags.add(tag);
+    }
+
+    /**
+     * Removes a tag from the object.
+     *
+     * @param tag Tag to remove.
+     * @return True if the tag is removed, false if the object does not have it.
+     */
+    public boolean removeTag(Tag tag) {
+        return tags.remove(tag);
     }
 
     public String getTagsName() {
         String tagsName = "";
 
-        for (Tag t : tags) {
+        for (Tag t : getTags()) {
             tagsName = tagsName.concat(t.toString()).concat(" ");
         }
         return tagsName;
@@ -0,0 +1,42 @@
+package seedu.notus.data.timetable;
+
+/**
+ * Represents an occurrence of an event that overlaps with an occurrence of an event stored in the timetable.
+ */
+public class Clash implements Comparable<Clash> {
+    private final Event event;
+    private final Event clashingEvent;
+
+    /**
+     * Constructs a Clash between two occurrences.
+     *
+     * @param event Occurrence of the event being checked.
+     * @param clashingEvent Occurrence of the stored event that it overlaps with.
+     */
+    public Clash(Event event, Event clashingEvent) {
+        this.event = event;
+        this.clashingEvent = clashingEvent;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public Event getClashingEvent() {
+        return clashingEvent;
+    }
+
+    /**
+     * Returns whether the two occurrences are so similar that one is likely a duplicate of the other.
+     *
+     * @return True if the occurrences have the same title and overlap, false otherwise.
+     */
+    public boolean isDuplicate() {
+        return clashingEvent.equals(event);
+    }
+
+    @Override
+    public int compareTo(Clash clash) {
+        return clashingEvent.compareTo(clash.clashingEvent);
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.notus.data.timetable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+
+/**
+ * Finds the occurrences of stored events that an event clashes with, over the whole lifetime of the event.
+ * As every occurrence of a recurring event starts and ends on the same date at the same times, two recurring
+ * events either overlap on every date they share or on none of them. Their times are compared once, and only
+ * then are the dates they share found by stepping through the sparser of the two and checking the other.
+ * The dates of a recurring event repeat with the 400 year cycle of the calendar, so the stepping stops once a
+ * whole cycle of the sparser event has passed without a shared date.
+ */
+public class ClashDetector {
+    /** Reference date for comparing the times of two recurring events. */
+    private static final LocalDate REFERENCE_DATE = LocalDate.of(2000, 1, 1);
+
+    /** Number of occurrences that a recurring event takes to go through one 400 year cycle of the calendar. */
+    private static final int MONTHLY_CYCLE_STEPS = 400 * 12;
+    private static final int YEARLY_CYCLE_STEPS = 400;
+
+    private final ArrayList<RecurringEvent> recurringEvents;
+    private final NavigableMap<LocalDateTime, ArrayList<Event>> nonRecurringEvents;
+
+    /**
+     * Constructs a ClashDetector over the events stored in a timetable.
+     *
+     * @param recurringEvents Stored recurring events.
+     * @param nonRecurringEvents Stored one-off events, indexed by their start.
+     */
+    ClashDetector(ArrayList<RecurringEvent> recurringEvents,
+                  NavigableMap<LocalDateTime, ArrayList<Event>> nonRecurringEvents) {
+        this.recurringEvents = recurringEvents;
+        this.nonRecurringEvents = nonRecurringEvents;
+    }
+
+    /**
+     * Returns the first clashes of an event with the stored events, in order of the start of the stored occurrence.
+     * A one-off event is checked on the date it starts, and a recurring event on every date it re-occurs.
+     *
+     * @param event Event to check.
+     * @param maxClashes Maximum number of clashes to find.
+     * @return ArrayList of at most maxClashes clashes.
+     */
+    public ArrayList<Clash> getClashes(Event event, int maxClashes) {
+        ArrayList<Clash> clashes = new ArrayList<>();
+        if (maxClashes <= 0) {
+            return clashes;
+        }
+
+        // Every source finds its own first clashes, so the first clashes overall are among them.
+        addNonRecurringClashes(event, maxClashes, clashes);
+        for (RecurringEvent storedEvent : recurringEvents) {
+            if (event instanceof RecurringEvent) {
+                addSeriesClashes((RecurringEvent) event, storedEvent, maxClashes, clashes);
+            } else {
+                addOccurrenceClash(event, storedEvent, clashes);
+            }
+        }
+
+        Collections.sort(clashes);
+        return new ArrayList<>(clashes.subList(0, Math.min(maxClashes, clashes.size())));
+    }
+
+    private void addNonRecurringClashes(Event event, int maxClashes, ArrayList<Clash> clashes) {
+        LocalDate startDate = event.getStartDate();
+        LocalDate endDate = (event instanceof RecurringEvent)
+                ? ((RecurringEvent) event).getEndRecurrenceDate() : startDate;
+        if (startDate.isAfter(endDate)) {
+            return;
+        }
+
+        int found = 0;
+        for (List<Event> eventsAtStart : nonRecurringEvents.subMap(startDate.atStartOfDay(), true,
+                endDate.plusDays(1).atStartOfDay(), false).values()) {
+            for (Event storedEvent : eventsAtStart) {
+                Event occurrence = getOccurrenceOn(event, storedEvent.getStartDate());
+                if (occurrence != null && occurrence.occursDuringEvent(storedEvent)) {
+                    clashes.add(new Clash(occurrence, storedEvent));
+                    found++;
+                }
+            }
+            if (found >= maxClashes) {
+                return;
+            }
+        }
+    }
+
+    private void addOccurrenceClash(Event event, RecurringEvent storedEvent, ArrayList<Clash> clashes) {
+        LocalDate date = event.getStartDate();
+        if (occursOn(storedEvent, date)) {
+            Event storedOccurrence = new EventOccurrence(storedEvent, date);
+            if (event.occursDuringEvent(storedOccurrence)) {
+                clashes.add(new Clash(event, storedOccurrence));
+            }
+        }
+    }
+
+    private void addSeriesClashes(RecurringEvent event, RecurringEvent storedEvent, int maxClashes,
+                                  ArrayList<Clash> clashes) {
+        Event referenceOccurrence = new EventOccurrence(event, REFERENCE_DATE);
+        if (!referenceOccurrence.occursDuringEvent(new EventOccurrence(storedEvent, REFERENCE_DATE))) {
+            return;
+        }
+
+        LocalDate startDate = max(event.getStartDate(), storedEvent.getStartDate());
+        LocalDate endDate = min(event.getEndRecurrenceDate(), storedEvent.getEndRecurrenceDate());
+        if (startDate.isAfter(endDate)) {
+            return;
+        }
+
+        boolean isEventSparser = getDensity(event) <= getDensity(storedEvent);
+        RecurringEvent sparserEvent = isEventSparser ? event : storedEvent;
+        RecurringEvent denserEvent = isEventSparser ? storedEvent : event;
+        int cycleSteps = getCycleSteps(sparserEvent);
+
+        Iterator<Event> occurrences = sparserEvent.iterateRecurrences(startDate, endDate);
+        int found = 0;
+        int misses = 0;
+        while (occurrences.hasNext() && found < maxClashes && misses < cycleSteps) {
+            LocalDate date = occurrences.next().getStartDate();
+            if (denserEvent.toReoccur(date)) {
+                clashes.add(new Clash(new EventOccurrence(event, date), new EventOccurrence(storedEvent, date)));
+                found++;
+                misses = 0;
+            } else {
+                misses++;
+            }
+        }
+    }
+
+    /**
+     * Returns the occurrence of an event on a date, or null if the event does not occur on the date.
+     */
+    private static Event getOccurrenceOn(Event event, LocalDate date) {
+        if (!(event instanceof RecurringEvent)) {
+            return event.getStartDate().equals(date) ? event : null;
+        }
+        RecurringEvent recurringEvent = (RecurringEvent) event;
+        return occursOn(recurringEvent, date) ? new EventOccurrence(recurringEvent, date) : null;
+    }
+
+    private static boolean occursOn(RecurringEvent event, LocalDate date) {
+        return !date.isBefore(event.getStartDate()) && !event.checkAfterEndRecurrence(date)
+                && event.toReoccur(date);
+    }
+
+    /**
+     * Returns how often an event occurs relative to the other types of recurring events. Higher is more often.
+     */
+    private static int getDensity(RecurringEvent event) {
+        if (event instanceof DailyEvent) {
+            return 3;
+        } else if (event instanceof WeeklyEvent) {
+            return 2;
+        } else if (event instanceof MonthlyEvent) {
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the number of consecutive occurrences of the sparser event after which the dates it shares with a
+     * denser event start repeating. Every day and every week fall on the same weekday, so a daily or weekly event
+     * either shares its next date with the denser event or none at all.
+     */
+    private static int getCycleSteps(RecurringEvent event) {
+        if (event instanceof MonthlyEvent) {
+            return MONTHLY_CYCLE_STEPS;
+        } else if (event instanceof YearlyEvent) {
+            return YEARLY_CYCLE_STEPS;
+        }
+        return 1;
+    }
+
+    private static LocalDate max(LocalDate first, LocalDate second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    private static LocalDate min(LocalDate first, LocalDate second) {
+        return first.isBefore(second) ? first : second;
+    }
+}
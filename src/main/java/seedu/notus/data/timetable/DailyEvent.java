@@ -4,6 +4,7 @@ import seedu.notus.data.tag.Tag;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -59,4 +60,9 @@ public class DailyEvent extends RecurringEvent {
     public LocalDate timeStep(LocalDate date, int steps) {
         return date.plusDays(steps * TIME_STEP);
     }
+
+    @Override
+    public long getStepsBetween(LocalDate startDate, LocalDate endDate) {
+        return ChronoUnit.DAYS.between(startDate, endDate) / TIME_STEP;
+    }
 }
@@ -21,10 +21,16 @@ public class Event extends TaggableObject implements Comparable<Event> {
     private String title;
     private LocalDateTime startDateTime;
     private LocalDateTime endDateTime;
-    private Boolean isToRemind;
-    private Boolean isRecurring;
-    private HashMap<String, ArrayList<Integer>> reminderPeriods = new HashMap<>();
+    private boolean isToRemind;
+    private boolean isRecurring;
+    private HashMap<String, ArrayList<Integer>> reminderPeriods;
 
+    /**
+     * Creates an Event object without any information of its own, for subclasses that derive all of it.
+     */
+    protected Event() {
+        super(false);
+    }
 
     /**
      * Creates an Event object with its title, date and time provided.
@@ -39,6 +45,7 @@ public class Event extends TaggableObject implements Comparable<Event> {
         this.endDateTime = endDateTime;
         this.isToRemind = false;
         this.isRecurring = false;
+        this.reminderPeriods = new HashMap<>();
     }
 
     /**
@@ -73,7 +80,7 @@ public class Event extends TaggableObject implements Comparable<Event> {
                  HashMap<String, ArrayList<Integer>> reminderPeriods, ArrayList<Tag> tags) {
         this(title, startDateTime, endDateTime, isToRemind, isRecurring);
         this.reminderPeriods = reminderPeriods;
-        this.tags = tags;
+        setTags(tags);
     }
 
     /**
@@ -135,11 +142,11 @@ public class Event extends TaggableObject implements Comparable<Event> {
     }
 
     public String getStartDateTimeString() {
-        return getLocalDateTimeStringRep(startDateTime);
+        return getLocalDateTimeStringRep(getStartDateTime());
     }
 
     public String getEndDateTimeString() {
-        return getLocalDateTimeStringRep(endDateTime);
+        return getLocalDateTimeStringRep(getEndDateTime());
     }
 
     /**
@@ -175,8 +182,8 @@ public class Event extends TaggableObject implements Comparable<Event> {
     public ArrayList<String> getReminderPeriodsString() {
         ArrayList<String> periods = new ArrayList<>();
 
-        ArrayList<Integer> dayRepeatPeriod = reminderPeriods.get(REMINDER_DAY);
-        ArrayList<Integer> weekRepeatPeriod = reminderPeriods.get(REMINDER_WEEK);
+        ArrayList<Integer> dayRepeatPeriod = getReminderPeriods().get(REMINDER_DAY);
+        ArrayList<Integer> weekRepeatPeriod = getReminderPeriods().get(REMINDER_WEEK);
         if (dayRepeatPeriod != null) {
             dayRepeatPeriod.sort(Integer::compareTo);
             for (Integer unit: dayRepeatPeriod) {
@@ -221,19 +228,21 @@ public class Event extends TaggableObject implements Comparable<Event> {
 
     public ArrayList<LocalDate> getReminderDates() {
         ArrayList<LocalDate> dates = new ArrayList<>();
-        if (!isToRemind) {
+        if (!getIsToRemind()) {
             return dates;
         }
+        HashMap<String, ArrayList<Integer>> reminderPeriods = getReminderPeriods();
+        LocalDate startDate = getStartDate();
         for (String unit : reminderPeriods.keySet()) {
             ArrayList<Integer> timePeriodsInUnit = reminderPeriods.get(unit);
-            LocalDate date = this.startDateTime.toLocalDate();
+            LocalDate date = startDate;
             for (Integer timePeriod : timePeriodsInUnit) {
                 switch (unit) {
                 case REMINDER_DAY:
-                    date = this.startDateTime.toLocalDate().plusDays(-timePeriod);
+                    date = startDate.plusDays(-timePeriod);
                     break;
                 case REMINDER_WEEK:
-                    date = this.startDateTime.toLocalDate().plusWeeks(-timePeriod);
+                    date = startDate.plusWeeks(-timePeriod);
                     break;
                 default:
                     break;
@@ -246,15 +255,19 @@ public class Event extends TaggableObject implements Comparable<Event> {
     }
 
     public boolean occursDuringEvent(Event event) {
+        LocalDateTime startDateTime = getStartDateTime();
+        LocalDateTime endDateTime = getEndDateTime();
+        LocalDateTime eventStartDateTime = event.getStartDateTime();
+        LocalDateTime eventEndDateTime = event.getEndDateTime();
         if (startDateTime.equals(endDateTime)
-                && (startDateTime.equals(event.startDateTime) || startDateTime.equals(event.endDateTime))) {
+                && (startDateTime.equals(eventStartDateTime) || startDateTime.equals(eventEndDateTime))) {
             return true;
         }
-        if (checkClash(event.startDateTime, event.endDateTime, startDateTime)) {
-            return !startDateTime.equals(event.endDateTime);
+        if (checkClash(eventStartDateTime, eventEndDateTime, startDateTime)) {
+            return !startDateTime.equals(eventEndDateTime);
         }
-        if (checkClash(startDateTime, endDateTime, event.startDateTime)) {
-            return !event.startDateTime.equals(endDateTime);
+        if (checkClash(startDateTime, endDateTime, eventStartDateTime)) {
+            return !eventStartDateTime.equals(endDateTime);
         }
         return false;
     }
@@ -269,19 +282,19 @@ public class Event extends TaggableObject implements Comparable<Event> {
      * @return Reduced String representation of an Event.
      */
     public String toReminderString() {
-        String titleString = "Event: " + title;
-        String dateString = "Date: " + startDateTime.toLocalDate().toString()
-                + "\tTime: " + startDateTime.toLocalTime().toString();
+        String titleString = "Event: " + getTitle();
+        String dateString = "Date: " + getStartDate().toString()
+                + "\tTime: " + getStartTime().toString();
         return titleString + Formatter.LS + dateString;
     }
 
     @Override
     public String toString() {
-        String titleString = "Event: " + title;
-        String dateString = "Date: " + startDateTime.toLocalDate().toString()
-                + "\tTime: " + startDateTime.toLocalTime().toString();
-        String remindString = "Reminder: " + isToRemind;
-        String repeatingString = "Repeating: " + isRecurring;
+        String titleString = "Event: " + getTitle();
+        String dateString = "Date: " + getStartDate().toString()
+                + "\tTime: " + getStartTime().toString();
+        String remindString = "Reminder: " + getIsToRemind();
+        String repeatingString = "Repeating: " + getRecurring();
         String lineSeparator = Formatter.LS;
         return titleString + lineSeparator + dateString + lineSeparator + remindString
                 + lineSeparator + repeatingString;
@@ -289,14 +302,14 @@ public class Event extends TaggableObject implements Comparable<Event> {
 
     @Override
     public int compareTo(Event o) {
-        return startDateTime.compareTo(o.startDateTime);
+        return getStartDateTime().compareTo(o.getStartDateTime());
     }
 
     @Override
     public boolean equals(Object o) {
         if (o instanceof Event) {
             Event event = (Event) o;
-            return (occursDuringEvent(event) && title.equalsIgnoreCase(event.title));
+            return (occursDuringEvent(event) && getTitle().equalsIgnoreCase(event.getTitle()));
         }
         return false;
     }
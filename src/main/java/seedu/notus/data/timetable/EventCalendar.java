@@ -0,0 +1,143 @@
+package seedu.notus.data.timetable;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents the events occurring within a time period, grouped by the day they occur on.
+ * The events are stored in a single array ordered by date and then by starting time, and the events of each day
+ * are located through an array of offsets indexed by the number of days since the start of the time period.
+ */
+public class EventCalendar {
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /** Events ordered by date, then by starting time. */
+    private final Event[] events;
+
+    /** The events of the i-th day of the time period are events[dayOffsets[i]] to events[dayOffsets[i + 1] - 1]. */
+    private final int[] dayOffsets;
+
+    /**
+     * Constructs the calendar of a time period. Each event is placed under its start date, and the events of
+     * every date are sorted by starting time exactly once.
+     *
+     * @param startDate First date of the time period.
+     * @param endDate Last date of the time period.
+     * @param occurrences Events occurring within the time period.
+     */
+    EventCalendar(LocalDate startDate, LocalDate endDate, List<Event> occurrences) {
+        assert !endDate.isBefore(startDate) : "Calendar should not end before it starts";
+        this.startDate = startDate;
+        this.endDate = endDate;
+
+        int numDays = Math.toIntExact(endDate.toEpochDay() - startDate.toEpochDay()) + 1;
+        dayOffsets = new int[numDays + 1];
+        events = new Event[occurrences.size()];
+
+        // Count the events of each day, then turn the counts into the offset each day starts at.
+        int[] dayIndexes = new int[occurrences.size()];
+        for (int i = 0; i < occurrences.size(); i++) {
+            dayIndexes[i] = getDayIndex(occurrences.get(i).getStartDate());
+            dayOffsets[dayIndexes[i] + 1]++;
+        }
+        for (int i = 0; i < numDays; i++) {
+            dayOffsets[i + 1] += dayOffsets[i];
+        }
+
+        // Place every event in its day, keeping the order the events were given in within the day.
+        int[] nextSlots = Arrays.copyOf(dayOffsets, numDays);
+        for (int i = 0; i < occurrences.size(); i++) {
+            events[nextSlots[dayIndexes[i]]++] = occurrences.get(i);
+        }
+
+        for (int i = 0; i < numDays; i++) {
+            if (dayOffsets[i + 1] - dayOffsets[i] > 1) {
+                Arrays.sort(events, dayOffsets[i], dayOffsets[i + 1]);
+            }
+        }
+    }
+
+    private int getDayIndex(LocalDate date) {
+        assert !date.isBefore(startDate) && !date.isAfter(endDate) : "Event should occur within the calendar";
+        return (int) (date.toEpochDay() - startDate.toEpochDay());
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public int size() {
+        return events.length;
+    }
+
+    public boolean isEmpty() {
+        return events.length == 0;
+    }
+
+    /**
+     * Returns the events occurring on a date, sorted by starting time.
+     *
+     * @param date Date to get the events of.
+     * @return Unmodifiable list of the events, which is empty if the date is outside of the calendar.
+     */
+    public List<Event> getEvents(LocalDate date) {
+        if (date.isBefore(startDate) || date.isAfter(endDate)) {
+            return Collections.emptyList();
+        }
+        int dayIndex = getDayIndex(date);
+        return getEvents(dayIndex, dayIndex + 1);
+    }
+
+    /**
+     * Returns the events occurring within a month, sorted by date and then by starting time.
+     *
+     * @param month Month to get the events of.
+     * @return Unmodifiable list of the events, which is empty if the month is outside of the calendar.
+     */
+    public List<Event> getEvents(YearMonth month) {
+        LocalDate monthStart = max(month.atDay(1), startDate);
+        LocalDate monthEnd = min(month.atEndOfMonth(), endDate);
+        if (monthEnd.isBefore(monthStart)) {
+            return Collections.emptyList();
+        }
+        return getEvents(getDayIndex(monthStart), getDayIndex(monthEnd) + 1);
+    }
+
+    /**
+     * Returns the months of the calendar which have at least one event, in chronological order.
+     *
+     * @return ArrayList of the months with events.
+     */
+    public ArrayList<YearMonth> getMonths() {
+        ArrayList<YearMonth> months = new ArrayList<>();
+        for (Event event : events) {
+            YearMonth month = YearMonth.from(event.getStartDate());
+            if (months.isEmpty() || !months.get(months.size() - 1).equals(month)) {
+                months.add(month);
+            }
+        }
+        return months;
+    }
+
+    private List<Event> getEvents(int fromDayIndex, int toDayIndex) {
+        List<Event> dayEvents = Arrays.asList(events).subList(dayOffsets[fromDayIndex], dayOffsets[toDayIndex]);
+        return Collections.unmodifiableList(dayEvents);
+    }
+
+    private static LocalDate max(LocalDate first, LocalDate second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    private static LocalDate min(LocalDate first, LocalDate second) {
+        return first.isBefore(second) ? first : second;
+    }
+}
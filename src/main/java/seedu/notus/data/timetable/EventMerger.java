@@ -0,0 +1,73 @@
+package seedu.notus.data.timetable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Merges several iterators of events, each in order of starting time, into a single iterator in order of
+ * starting time. Events that start at the same time are provided in the order their iterators were given in.
+ * Only the next event of each iterator is held at any time.
+ */
+public class EventMerger implements Iterator<Event> {
+
+    /**
+     * Holds the next event of an iterator together with the position of the iterator.
+     */
+    private static class Head implements Comparable<Head> {
+        private final Iterator<Event> source;
+        private final int position;
+        private Event event;
+        private LocalDateTime startDateTime;
+
+        private Head(Iterator<Event> source, int position) {
+            this.source = source;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(Head head) {
+            int compare = startDateTime.compareTo(head.startDateTime);
+            return (compare != 0) ? compare : Integer.compare(position, head.position);
+        }
+    }
+
+    private final PriorityQueue<Head> heads = new PriorityQueue<>();
+
+    /**
+     * Constructs an EventMerger over the given iterators.
+     *
+     * @param sources Iterators of events, each in order of starting time.
+     */
+    public EventMerger(ArrayList<Iterator<Event>> sources) {
+        for (int i = 0; i < sources.size(); i++) {
+            advance(new Head(sources.get(i), i));
+        }
+    }
+
+    private void advance(Head head) {
+        if (head.source.hasNext()) {
+            head.event = head.source.next();
+            head.startDateTime = head.event.getStartDateTime();
+            heads.add(head);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public Event next() {
+        Head head = heads.poll();
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        Event event = head.event;
+        advance(head);
+        return event;
+    }
+}
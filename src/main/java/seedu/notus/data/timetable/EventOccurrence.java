@@ -0,0 +1,147 @@
+package seedu.notus.data.timetable;
+
+import seedu.notus.data.tag.Tag;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Represents a single occurrence of a RecurringEvent. Only holds the recurring event and the date it occurs on,
+ * and derives the rest of its information from the recurring event when asked for it.
+ * An occurrence is a read-only view, changes should be made to the recurring event instead.
+ */
+public class EventOccurrence extends Event {
+    private static final String READ_ONLY_MESSAGE = "An occurrence of a recurring event cannot be edited.";
+
+    private final RecurringEvent parent;
+    private final LocalDate date;
+
+    /**
+     * Creates an occurrence of a recurring event on the given date.
+     *
+     * @param parent Recurring event that occurs.
+     * @param date Date that the recurring event occurs on.
+     */
+    EventOccurrence(RecurringEvent parent, LocalDate date) {
+        this.parent = parent;
+        this.date = date;
+    }
+
+    public RecurringEvent getParent() {
+        return parent;
+    }
+
+    @Override
+    public String getTitle() {
+        return parent.getTitle();
+    }
+
+    @Override
+    public LocalDateTime getStartDateTime() {
+        return LocalDateTime.of(date, getStartTime());
+    }
+
+    @Override
+    public LocalDate getStartDate() {
+        return date;
+    }
+
+    @Override
+    public LocalTime getStartTime() {
+        return parent.getStartTime();
+    }
+
+    /**
+     * Returns the end of the occurrence, which ends on the date it occurs on at the end time of the recurring event.
+     *
+     * @return End DateTime of the occurrence.
+     */
+    @Override
+    public LocalDateTime getEndDateTime() {
+        return LocalDateTime.of(date, getEndTime());
+    }
+
+    @Override
+    public LocalDate getEndDate() {
+        return date;
+    }
+
+    @Override
+    public LocalTime getEndTime() {
+        LocalTime endTime = parent.getEndTime();
+        return getStartTime().withHour(endTime.getHour()).withMinute(endTime.getMinute());
+    }
+
+    @Override
+    public boolean getIsToRemind() {
+        return parent.getIsToRemind();
+    }
+
+    @Override
+    public HashMap<String, ArrayList<Integer>> getReminderPeriods() {
+        return parent.getReminderPeriods();
+    }
+
+    @Override
+    public boolean getRecurring() {
+        return false;
+    }
+
+    /**
+     * Returns the tags of the occurrence. Occurrences are listed without the tags of the recurring event.
+     *
+     * @return Empty list of tags.
+     */
+    @Override
+    public ArrayList<Tag> getTags() {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public void setTitle(String title) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public void setStartDateTime(LocalDateTime dateTime) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public void setEndDateTime(LocalDateTime dateTime) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public void setIsToRemind(boolean isToRemind) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public void setReminderPeriods(HashMap<String, ArrayList<Integer>> reminderPeriods) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public void setTags(ArrayList<Tag> tags) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public boolean hasTag(Tag tag) {
+        return false;
+    }
+
+    @Override
+    public boolean addTag(Tag tag) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+
+    @Override
+    public boolean removeTag(Tag tag) {
+        throw new UnsupportedOperationException(READ_ONLY_MESSAGE);
+    }
+}
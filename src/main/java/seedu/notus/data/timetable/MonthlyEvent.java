@@ -4,6 +4,7 @@ import seedu.notus.data.tag.Tag;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -57,4 +58,9 @@ public class MonthlyEvent extends RecurringEvent {
     public LocalDate timeStep(LocalDate date, int steps) {
         return date.plusMonths(steps * TIME_STEP);
     }
+
+    @Override
+    public long getStepsBetween(LocalDate startDate, LocalDate endDate) {
+        return ChronoUnit.MONTHS.between(startDate, endDate) / TIME_STEP;
+    }
 }
@@ -6,8 +6,15 @@ import seedu.notus.ui.Formatter;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 //@@author brandonywl
 public abstract class RecurringEvent extends Event {
@@ -15,6 +22,18 @@ public abstract class RecurringEvent extends Event {
     private LocalTime endRecurrenceTime;
     private String recurrenceType;
 
+    /** Maximum number of months of occurrences that are kept in memory. */
+    private static final int MAX_CACHED_MONTHS = 24;
+
+    /** Occurrences of this event by month, in order of last use. Guarded by its own monitor. */
+    private final LinkedHashMap<YearMonth, ArrayList<Event>> occurrenceCache =
+            new LinkedHashMap<>(MAX_CACHED_MONTHS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<YearMonth, ArrayList<Event>> eldest) {
+                    return size() > MAX_CACHED_MONTHS;
+                }
+            };
+
     public static final LocalDate DEFAULT_END_RECURRENCE = LocalDate.of(3000, 12, 31);
     public static final LocalTime DEFAULT_END_RECURRENCE_TIME = LocalTime.of(23, 59);
     public static final String NO_RECURRENCE_TYPE = "none";
@@ -79,6 +98,23 @@ public abstract class RecurringEvent extends Event {
 
     public void setEndRecurrenceDate(LocalDate endRecurrenceDate) {
         this.endRecurrenceDate = endRecurrenceDate;
+        invalidateOccurrences();
+    }
+
+    @Override
+    public void setStartDateTime(LocalDateTime dateTime) {
+        super.setStartDateTime(dateTime);
+        invalidateOccurrences();
+    }
+
+    /**
+     * Discards the occurrences kept in memory. Must be called whenever the dates the event re-occurs on change.
+     * Occurrences read their title and timings from this event, so other edits do not require this.
+     */
+    public void invalidateOccurrences() {
+        synchronized (occurrenceCache) {
+            occurrenceCache.clear();
+        }
     }
 
     /**
@@ -94,6 +130,7 @@ public abstract class RecurringEvent extends Event {
     /**
      * Checks whether the current RecurringEvent object will re-occur between the start and end date (inclusive)
      * and return an ArrayList that contains an event for all the times that it re-occurs.
+     * Each recurrence is a lightweight EventOccurrence that refers back to this event.
      *
      * @param startDate Start date of the time period to check (inclusive)
      * @param endDate End date of the time period to check (inclusive)
@@ -101,21 +138,99 @@ public abstract class RecurringEvent extends Event {
      */
     public ArrayList<Event> getRecurrences(LocalDate startDate, LocalDate endDate) {
         ArrayList<Event> eventSet = new ArrayList<>();
-        while (startDate.compareTo(endDate) <= 0) {
-            if (checkAfterEndRecurrence(startDate)) {
-                return eventSet;
+        Iterator<Event> recurrences = iterateRecurrences(startDate, endDate);
+        while (recurrences.hasNext()) {
+            eventSet.add(recurrences.next());
+        }
+        return eventSet;
+    }
+
+    /**
+     * Provides the recurrences of this event between the start and end date (inclusive) one at a time, in order.
+     * A time period of up to {@value #MAX_CACHED_MONTHS} months is served from the occurrences kept in memory for
+     * each month, which are computed the first time a month is asked for. Longer time periods are stepped through
+     * directly, so that scanning far ahead does not push the months being browsed out of memory.
+     *
+     * @param startDate Start date of the time period to check (inclusive)
+     * @param endDate End date of the time period to check (inclusive)
+     * @return Iterator over this event at different dates at a specified interval within the time period.
+     */
+    public Iterator<Event> iterateRecurrences(LocalDate startDate, LocalDate endDate) {
+        LocalDate firstDate = (startDate.compareTo(getStartDate()) > 0) ? startDate : getStartDate();
+        LocalDate lastDate = (endRecurrenceDate.compareTo(endDate) < 0) ? endRecurrenceDate : endDate;
+        if (firstDate.compareTo(lastDate) > 0) {
+            return Collections.emptyIterator();
+        }
+
+        YearMonth firstMonth = YearMonth.from(firstDate);
+        YearMonth lastMonth = YearMonth.from(lastDate);
+        if (firstMonth.until(lastMonth, ChronoUnit.MONTHS) >= MAX_CACHED_MONTHS) {
+            return stepRecurrences(firstDate, lastDate);
+        }
+
+        ArrayList<Event> occurrences = new ArrayList<>();
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            for (Event occurrence : getMonthOccurrences(month)) {
+                LocalDate date = occurrence.getStartDate();
+                if (date.compareTo(firstDate) >= 0 && date.compareTo(lastDate) <= 0) {
+                    occurrences.add(occurrence);
+                }
             }
-            if (toReoccur(startDate)) {
-                LocalDateTime dateTime = LocalDateTime.of(startDate, getStartTime());
-                LocalDateTime endDateTime = dateTime.withHour(getEndTime().getHour());
-                endDateTime = endDateTime.withMinute(getEndTime().getMinute());
-                Event event = new Event(getTitle(), dateTime, endDateTime,
-                        getIsToRemind(), false, getReminderPeriods());
-                eventSet.add(event);
+        }
+        return occurrences.iterator();
+    }
+
+    /**
+     * Returns the recurrences of this event in a month, computing and keeping them in memory if they are not yet.
+     *
+     * @param month Month to get the recurrences in.
+     * @return ArrayList of the recurrences in the month, which must not be modified.
+     */
+    private ArrayList<Event> getMonthOccurrences(YearMonth month) {
+        synchronized (occurrenceCache) {
+            ArrayList<Event> occurrences = occurrenceCache.get(month);
+            if (occurrences == null) {
+                occurrences = new ArrayList<>();
+                stepRecurrences(month.atDay(1), month.atEndOfMonth()).forEachRemaining(occurrences::add);
+                occurrenceCache.put(month, occurrences);
             }
-            startDate = startDate.plusDays(1);
+            return occurrences;
         }
-        return eventSet;
+    }
+
+    /**
+     * Steps through the recurrences of this event between the start and end date (inclusive), in order.
+     * Jumps directly to the first recurrence within the time period and then steps from one recurrence to the next
+     * only when the next recurrence is asked for.
+     *
+     * @param startDate Start date of the time period to check (inclusive)
+     * @param endDate End date of the time period to check (inclusive)
+     * @return Iterator over this event at different dates at a specified interval within the time period.
+     */
+    private Iterator<Event> stepRecurrences(LocalDate startDate, LocalDate endDate) {
+        LocalDate lastDate = (endRecurrenceDate.compareTo(endDate) < 0) ? endRecurrenceDate : endDate;
+        LocalDate eventDate = getStartDate();
+        int firstStep = getFirstStepOnOrAfter(startDate);
+
+        return new Iterator<>() {
+            private int steps = firstStep;
+            private LocalDate nextDate = timeStep(eventDate, steps);
+
+            @Override
+            public boolean hasNext() {
+                return nextDate.compareTo(lastDate) <= 0;
+            }
+
+            @Override
+            public Event next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Event event = new EventOccurrence(RecurringEvent.this, nextDate);
+                nextDate = timeStep(eventDate, ++steps);
+                return event;
+            }
+        };
     }
 
     /**
@@ -125,14 +240,30 @@ public abstract class RecurringEvent extends Event {
      * @return Whether it will reoccur
      */
     public boolean toReoccur(LocalDate date) {
+        return timeStep(getStartDate(), getFirstStepOnOrAfter(date)).equals(date);
+    }
+
+    /**
+     * Returns the number of time steps from the start date of the event to its first recurrence on or after a date.
+     *
+     * @param date Date to check.
+     * @return Number of time steps to the first recurrence on or after the date.
+     */
+    private int getFirstStepOnOrAfter(LocalDate date) {
         LocalDate eventDate = getStartDate();
-        LocalDate finalDate = getStartDate();
-        int steps = 1;
-        while (finalDate.compareTo(date) < 0) {
-            finalDate = timeStep(eventDate, steps);
+        if (date.compareTo(eventDate) <= 0) {
+            return 0;
+        }
+
+        int steps = (int) getStepsBetween(eventDate, date);
+        // a time step can fall short of the whole units between the dates when the day of the month is clamped
+        while (timeStep(eventDate, steps).compareTo(date) < 0) {
             steps++;
         }
-        return finalDate.equals(date);
+        while (steps > 0 && timeStep(eventDate, steps - 1).compareTo(date) >= 0) {
+            steps--;
+        }
+        return steps;
     }
 
     @Override
@@ -169,4 +300,13 @@ public abstract class RecurringEvent extends Event {
      * @return Future date
      */
     public abstract LocalDate timeStep(LocalDate date, int steps);
+
+    /**
+     * Provides the number of whole time steps from one date to another.
+     *
+     * @param startDate Date to step from
+     * @param endDate Date to step towards
+     * @return Number of whole time steps between the dates
+     */
+    public abstract long getStepsBetween(LocalDate startDate, LocalDate endDate);
 }
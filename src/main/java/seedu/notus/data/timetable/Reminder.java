@@ -26,6 +26,10 @@ public class Reminder implements Comparable<Reminder> {
         return event;
     }
 
+    public LocalDate getDateToRemind() {
+        return dateToRemind;
+    }
+
     /**
      * Returns whether this reminder should be raised to the user.
      * If the date provided is equal the dateToRemind stored in the reminder, it returns true.
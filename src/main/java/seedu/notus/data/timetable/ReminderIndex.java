@@ -0,0 +1,166 @@
+package seedu.notus.data.timetable;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Represents an index of the reminders of the events in a timetable, keyed by the date the reminders go off.
+ * Only reminders that go off within a rolling window of dates are indexed. The window is built when a date
+ * outside of it is looked up, and is kept up to date as events are added, edited and removed.
+ */
+public class ReminderIndex {
+    /** Number of days after the first date of the window that reminders are indexed for. */
+    public static final int WINDOW_DAYS = 31;
+
+    private final TreeMap<LocalDate, ArrayList<Reminder>> remindersByDate = new TreeMap<>();
+    private final IdentityHashMap<Event, ArrayList<Reminder>> remindersByEvent = new IdentityHashMap<>();
+
+    /** First and last date of the window, or null if the window has not been built. */
+    private LocalDate windowStart;
+    private LocalDate windowEnd;
+
+    /**
+     * Returns the reminders that go off on a date, in order of the starting time of their events.
+     * The window is moved to start at the date if the date is outside of it.
+     *
+     * @param date Date to get the reminders of.
+     * @param events All events in the timetable, used to build the window if it has to be moved.
+     * @return ArrayList of the reminders that go off on the date.
+     */
+    public ArrayList<Reminder> getReminders(LocalDate date, List<Event> events) {
+        if (windowStart == null || date.isBefore(windowStart) || date.isAfter(windowEnd)) {
+            rebuild(date, events);
+        }
+
+        ArrayList<Reminder> reminders = new ArrayList<>(remindersByDate.getOrDefault(date, new ArrayList<>()));
+        reminders.sort(Comparator.comparing(reminder -> reminder.getEvent().getStartDateTime()));
+        return reminders;
+    }
+
+    /**
+     * Indexes the reminders of every event for a window starting at the given date.
+     *
+     * @param startDate First date of the window.
+     * @param events All events in the timetable.
+     */
+    public void rebuild(LocalDate startDate, List<Event> events) {
+        remindersByDate.clear();
+        remindersByEvent.clear();
+        windowStart = startDate;
+        windowEnd = startDate.plusDays(WINDOW_DAYS - 1);
+        for (Event event : events) {
+            add(event);
+        }
+    }
+
+    /**
+     * Indexes the reminders of an event that go off within the window.
+     * Does nothing if the window has not been built.
+     *
+     * @param event Event stored in the timetable.
+     */
+    public void add(Event event) {
+        if (windowStart == null) {
+            return;
+        }
+        ArrayList<Reminder> eventReminders = getEventReminders(event, windowStart, windowEnd);
+        for (Reminder reminder : eventReminders) {
+            remindersByDate.computeIfAbsent(reminder.getDateToRemind(), date -> new ArrayList<>()).add(reminder);
+        }
+        if (!eventReminders.isEmpty()) {
+            remindersByEvent.put(event, eventReminders);
+        }
+    }
+
+    /**
+     * Removes the reminders of an event from the index.
+     *
+     * @param event Event stored in the timetable.
+     */
+    public void remove(Event event) {
+        ArrayList<Reminder> eventReminders = remindersByEvent.remove(event);
+        if (eventReminders == null) {
+            return;
+        }
+
+        for (Reminder reminder : eventReminders) {
+            ArrayList<Reminder> reminders = remindersByDate.get(reminder.getDateToRemind());
+            reminders.removeIf(indexedReminder -> indexedReminder == reminder);
+            if (reminders.isEmpty()) {
+                remindersByDate.remove(reminder.getDateToRemind());
+            }
+        }
+    }
+
+    /**
+     * Re-indexes the reminders of an event after it has been edited.
+     *
+     * @param event Event stored in the timetable.
+     */
+    public void update(Event event) {
+        remove(event);
+        add(event);
+    }
+
+    /**
+     * Returns the reminders of an event that go off within a time period, including those of its recurrences.
+     *
+     * @param event Event stored in the timetable.
+     * @param startDate First date of the time period.
+     * @param endDate Last date of the time period.
+     * @return ArrayList of the reminders, in order of the starting time of their events.
+     */
+    static ArrayList<Reminder> getEventReminders(Event event, LocalDate startDate, LocalDate endDate) {
+        ArrayList<Reminder> eventReminders = new ArrayList<>();
+        if (!event.getIsToRemind() || startDate.isAfter(endDate)) {
+            return eventReminders;
+        }
+
+        ArrayList<Long> leadDays = getLeadDays(event);
+        if (leadDays.isEmpty()) {
+            return eventReminders;
+        }
+
+        // The occurrences that can be reminded of within the time period are those up to the longest lead after it.
+        LocalDate lastOccurrenceDate = endDate.plusDays(leadDays.get(leadDays.size() - 1));
+        Iterator<Event> occurrences = (event instanceof RecurringEvent)
+                ? ((RecurringEvent) event).iterateRecurrences(startDate, lastOccurrenceDate)
+                : List.of(event).iterator();
+
+        while (occurrences.hasNext()) {
+            Event occurrence = occurrences.next();
+            LocalDate occurrenceDate = occurrence.getStartDate();
+            for (long lead : leadDays) {
+                LocalDate reminderDate = occurrenceDate.minusDays(lead);
+                // Reminders are only raised for events at most one month away.
+                if (!reminderDate.isBefore(startDate) && !reminderDate.isAfter(endDate)
+                        && !occurrenceDate.isAfter(reminderDate.plusMonths(1))) {
+                    eventReminders.add(new Reminder(occurrence, reminderDate));
+                }
+            }
+        }
+        return eventReminders;
+    }
+
+    /**
+     * Returns the number of days before each occurrence of an event that its reminders go off, in ascending order.
+     */
+    private static ArrayList<Long> getLeadDays(Event event) {
+        ArrayList<Long> leadDays = new ArrayList<>();
+        LocalDate startDate = event.getStartDate();
+        for (LocalDate reminderDate : event.getReminderDates()) {
+            long lead = ChronoUnit.DAYS.between(reminderDate, startDate);
+            if (lead >= 0) {
+                leadDays.add(lead);
+            }
+        }
+        leadDays.sort(Long::compareTo);
+        return leadDays;
+    }
+}
@@ -0,0 +1,252 @@
+package seedu.notus.data.timetable;
+
+import seedu.notus.ui.Formatter;
+import seedu.notus.ui.InterfaceManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.PriorityQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.notus.util.CommandMessage.REMINDERS_MESSAGE;
+
+/**
+ * Represents a background service that raises the reminders of the events in a timetable when they are due,
+ * without waiting for the user to ask for them.
+ * Upcoming reminders are kept in a queue in order of the date they go off. A daemon thread sleeps until the
+ * next reminder is due and then prints it. When an event is added, edited or removed, only the reminders of that
+ * event are recomputed, leaving out the reminders that have already been raised today.
+ *
+ * <p>The timetable is only read while holding its monitor, so commands that change the timetable should be
+ * executed while holding the monitor of the timetable as well.</p>
+ */
+public class ReminderScheduler implements TimetableObserver {
+    /** System property that enables the scheduler. */
+    public static final String SCHEDULER_PROPERTY = "notus.reminderScheduler";
+
+    private static final Logger LOGGER = Logger.getLogger("ReminderScheduler");
+
+    private final Timetable timetable;
+    private final InterfaceManager interfaceManager;
+    private final Clock clock;
+
+    /** Upcoming reminders, guarded by its own monitor. */
+    private final PriorityQueue<Reminder> reminders = new PriorityQueue<>(
+            Comparator.comparing(Reminder::getDateToRemind)
+                    .thenComparing(reminder -> reminder.getEvent().getStartDateTime()));
+
+    /** Last date that reminders have been queued for. */
+    private LocalDate lastQueuedDate;
+
+    /** Date that reminders were last raised on, and the start dates of the occurrences raised then, by event. */
+    private LocalDate lastRaisedDate;
+    private final IdentityHashMap<Event, HashSet<LocalDate>> raisedOccurrences = new IdentityHashMap<>();
+    private Thread thread;
+    private boolean isRunning = false;
+
+    /**
+     * Constructs a ReminderScheduler for a timetable.
+     *
+     * @param timetable Timetable to raise the reminders of.
+     * @param interfaceManager InterfaceManager to print the reminders to.
+     * @param clock Clock that decides when reminders are due.
+     */
+    public ReminderScheduler(Timetable timetable, InterfaceManager interfaceManager, Clock clock) {
+        this.timetable = timetable;
+        this.interfaceManager = interfaceManager;
+        this.clock = clock;
+    }
+
+    public ReminderScheduler(Timetable timetable, InterfaceManager interfaceManager) {
+        this(timetable, interfaceManager, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Queues the reminders from today onwards and starts raising them in the background.
+     */
+    public void start() {
+        LocalDate today = LocalDate.now(clock);
+        synchronized (reminders) {
+            lastQueuedDate = today.minusDays(1);
+        }
+        queueReminders(today);
+
+        thread = new Thread(this::run, "ReminderScheduler");
+        thread.setDaemon(true);
+        synchronized (reminders) {
+            isRunning = true;
+        }
+        thread.start();
+        LOGGER.log(Level.INFO, "Reminder scheduler started.");
+    }
+
+    /**
+     * Stops raising reminders and waits for the background thread to finish.
+     */
+    public void stop() {
+        synchronized (reminders) {
+            isRunning = false;
+            reminders.notifyAll();
+        }
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the reminders that have not been raised yet, in the order they will be raised.
+     *
+     * @return ArrayList of the queued reminders.
+     */
+    public ArrayList<Reminder> getQueuedReminders() {
+        synchronized (reminders) {
+            ArrayList<Reminder> queuedReminders = new ArrayList<>(reminders);
+            queuedReminders.sort(reminders.comparator());
+            return queuedReminders;
+        }
+    }
+
+    @Override
+    public void eventAdded(Event event) {
+        synchronized (reminders) {
+            if (lastQueuedDate == null) {
+                return;
+            }
+            LocalDate today = LocalDate.now(clock);
+            ArrayList<Reminder> eventReminders = ReminderIndex.getEventReminders(event, today, lastQueuedDate);
+
+            // An edited event is removed and added again, so its reminders raised today must not be queued again.
+            HashSet<LocalDate> raisedDates = today.equals(lastRaisedDate) ? raisedOccurrences.get(event) : null;
+            if (raisedDates != null) {
+                eventReminders.removeIf(reminder -> reminder.getDateToRemind().equals(today)
+                        && raisedDates.contains(reminder.getEvent().getStartDate()));
+            }
+            reminders.addAll(eventReminders);
+            reminders.notifyAll();
+        }
+    }
+
+    @Override
+    public void eventRemoved(Event event) {
+        synchronized (reminders) {
+            reminders.removeIf(reminder -> getStoredEvent(reminder) == event);
+            reminders.notifyAll();
+        }
+    }
+
+    /**
+     * Returns the event stored in the timetable that a reminder is for.
+     */
+    private static Event getStoredEvent(Reminder reminder) {
+        Event event = reminder.getEvent();
+        return (event instanceof EventOccurrence) ? ((EventOccurrence) event).getParent() : event;
+    }
+
+    /**
+     * Records that a reminder has been raised today, so that it is not queued again when its event is edited.
+     */
+    private void markRaised(Reminder reminder, LocalDate today) {
+        if (!today.equals(lastRaisedDate)) {
+            raisedOccurrences.clear();
+            lastRaisedDate = today;
+        }
+        raisedOccurrences.computeIfAbsent(getStoredEvent(reminder), event -> new HashSet<>())
+                .add(reminder.getEvent().getStartDate());
+    }
+
+    private void run() {
+        while (true) {
+            ArrayList<Reminder> dueReminders;
+            try {
+                dueReminders = takeDueReminders();
+            } catch (InterruptedException exception) {
+                return;
+            }
+            if (dueReminders == null) {
+                return;
+            }
+
+            if (!dueReminders.isEmpty()) {
+                interfaceManager.prints(Formatter.formatReminders(REMINDERS_MESSAGE, dueReminders));
+            }
+            queueReminders(LocalDate.now(clock));
+        }
+    }
+
+    /**
+     * Waits until a reminder is due or more reminders have to be queued, and takes the due reminders.
+     *
+     * @return The due reminders, which may be empty if more reminders have to be queued, or null once stopped.
+     * @throws InterruptedException when the background thread is interrupted.
+     */
+    private ArrayList<Reminder> takeDueReminders() throws InterruptedException {
+        synchronized (reminders) {
+            while (isRunning) {
+                LocalDateTime now = LocalDateTime.now(clock);
+                LocalDateTime nextQueueTime = lastQueuedDate.plusDays(1).atStartOfDay();
+                Reminder nextReminder = reminders.peek();
+
+                if (nextReminder != null && !nextReminder.getDateToRemind().atStartOfDay().isAfter(now)) {
+                    ArrayList<Reminder> dueReminders = new ArrayList<>();
+                    while (!reminders.isEmpty() && reminders.peek().reminderDue(now.toLocalDate())) {
+                        Reminder dueReminder = reminders.poll();
+                        markRaised(dueReminder, now.toLocalDate());
+                        dueReminders.add(dueReminder);
+                    }
+                    return dueReminders;
+                }
+                if (!nextQueueTime.isAfter(now)) {
+                    return new ArrayList<>();
+                }
+
+                LocalDateTime wakeTime = nextQueueTime;
+                if (nextReminder != null && nextReminder.getDateToRemind().atStartOfDay().isBefore(wakeTime)) {
+                    wakeTime = nextReminder.getDateToRemind().atStartOfDay();
+                }
+                reminders.wait(Math.max(1, Duration.between(now, wakeTime).toMillis()));
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Queues the reminders that go off from the day after the last queued date until a window after the given date.
+     *
+     * @param today Current date.
+     */
+    private void queueReminders(LocalDate today) {
+        LocalDate startDate;
+        synchronized (reminders) {
+            if (!lastQueuedDate.isBefore(today)) {
+                return;
+            }
+            startDate = lastQueuedDate.plusDays(1).isBefore(today) ? today : lastQueuedDate.plusDays(1);
+        }
+        LocalDate endDate = today.plusDays(ReminderIndex.WINDOW_DAYS - 1);
+
+        // Hold the timetable so that no event changes between reading it and moving the last queued date.
+        synchronized (timetable) {
+            ArrayList<Reminder> newReminders = new ArrayList<>();
+            for (Event event : timetable.getEvents()) {
+                newReminders.addAll(ReminderIndex.getEventReminders(event, startDate, endDate));
+            }
+            synchronized (reminders) {
+                reminders.addAll(newReminders);
+                lastQueuedDate = endDate;
+                reminders.notifyAll();
+            }
+        }
+    }
+}
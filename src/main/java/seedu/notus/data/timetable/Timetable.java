@@ -1,11 +1,13 @@
 package seedu.notus.data.timetable;
 
 import java.time.LocalDate;
-import java.time.Month;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.PriorityQueue;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeMap;
 
 //@@author brandonywl
 /**
@@ -14,18 +16,33 @@ import java.util.PriorityQueue;
 public class Timetable {
 
     private ArrayList<Event> events;
-    private ArrayList<Event> nonRecurringEvents;
     private ArrayList<DailyEvent> dailyEvents;
     private ArrayList<WeeklyEvent> weeklyEvents;
     private ArrayList<MonthlyEvent> monthlyEvents;
     private ArrayList<YearlyEvent> yearlyEvents;
 
+    /** One-off events indexed by their start, and the start each of them is indexed under. */
+    private TreeMap<LocalDateTime, ArrayList<Event>> nonRecurringEvents = new TreeMap<>();
+    private IdentityHashMap<Event, LocalDateTime> nonRecurringEventStarts = new IdentityHashMap<>();
+
+    /** Events that have changed since the timetable was last saved, and whether any event has been removed. */
+    private Set<Event> changedEvents = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean isEventRemoved = false;
+
+    /** Reminders of the events, keyed by the date they go off. */
+    private ReminderIndex reminderIndex = new ReminderIndex();
+
+    /** Number of clashes looked for when an event is added or edited. */
+    public static final int MAX_CLASHES = 10;
+
+    /** Objects to notify when the events change. */
+    private ArrayList<TimetableObserver> observers = new ArrayList<>();
+
     /**
      * Creates a new list of events.
      */
     public Timetable() {
         events = new ArrayList<>();
-        nonRecurringEvents = new ArrayList<>();
         dailyEvents = new ArrayList<>();
         weeklyEvents = new ArrayList<>();
         monthlyEvents = new ArrayList<>();
@@ -38,7 +55,8 @@ public class Timetable {
      * @param events from existing data.
      */
     public Timetable(ArrayList<Event> events) {
-        this.events = events;
+        this();
+        setEvents(events);
     }
 
     public ArrayList<Event> getEvents() {
@@ -57,8 +75,33 @@ public class Timetable {
         return dailyEvents;
     }
 
+    /**
+     * Replaces all the events in the timetable, rebuilding the start index and the reminder index from the new events.
+     *
+     * @param events Events to replace the events in the timetable with.
+     */
     public void setEvents(ArrayList<Event> events) {
-        this.events = events;
+        ArrayList<Event> newEvents = new ArrayList<>(events);
+        for (Event event : this.events) {
+            for (TimetableObserver observer : observers) {
+                observer.eventRemoved(event);
+            }
+        }
+
+        this.events = new ArrayList<>();
+        dailyEvents = new ArrayList<>();
+        weeklyEvents = new ArrayList<>();
+        monthlyEvents = new ArrayList<>();
+        yearlyEvents = new ArrayList<>();
+        nonRecurringEvents = new TreeMap<>();
+        nonRecurringEventStarts = new IdentityHashMap<>();
+        reminderIndex = new ReminderIndex();
+        changedEvents.clear();
+        isEventRemoved = true;
+
+        for (Event event : newEvents) {
+            addEvent(event);
+        }
     }
 
     /**
@@ -88,9 +131,15 @@ public class Timetable {
      * @param event to be added.
      */
     public void addEvent(int index, Event event) {
+        assert !(event instanceof EventOccurrence) : "Only stored events should be added to the timetable";
         events.add(index, event);
+        changedEvents.add(event);
+        reminderIndex.add(event);
+        for (TimetableObserver observer : observers) {
+            observer.eventAdded(event);
+        }
         if (!event.getRecurring()) {
-            nonRecurringEvents.add(event);
+            indexNonRecurringEvent(event);
         } else {
             if (event instanceof DailyEvent) {
                 dailyEvents.add((DailyEvent) event);
@@ -112,6 +161,12 @@ public class Timetable {
     public void deleteEvent(int index) {
         Event event = events.get(index);
         events.remove(index);
+        changedEvents.remove(event);
+        reminderIndex.remove(event);
+        for (TimetableObserver observer : observers) {
+            observer.eventRemoved(event);
+        }
+        isEventRemoved = true;
         if (event instanceof DailyEvent) {
             dailyEvents.remove(event);
         } else if (event instanceof WeeklyEvent) {
@@ -121,25 +176,89 @@ public class Timetable {
         } else if (event instanceof YearlyEvent) {
             yearlyEvents.remove(event);
         } else {
-            nonRecurringEvents.remove(event);
+            unindexNonRecurringEvent(event);
         }
     }
 
+    /**
+     * Updates the position and reminders of an event in the timetable after it has been edited in place.
+     *
+     * @param event Event that has been edited.
+     */
+    public void updateEvent(Event event) {
+        if (nonRecurringEventStarts.containsKey(event)) {
+            unindexNonRecurringEvent(event);
+            indexNonRecurringEvent(event);
+        }
+        reminderIndex.update(event);
+        for (TimetableObserver observer : observers) {
+            observer.eventRemoved(event);
+            observer.eventAdded(event);
+        }
+        changedEvents.add(event);
+    }
+
+    /**
+     * Registers an object to be notified when events are added, edited or removed.
+     *
+     * @param observer Object to notify.
+     */
+    public void addObserver(TimetableObserver observer) {
+        observers.add(observer);
+    }
+
+    private void indexNonRecurringEvent(Event event) {
+        nonRecurringEvents.computeIfAbsent(event.getStartDateTime(), start -> new ArrayList<>()).add(event);
+        nonRecurringEventStarts.put(event, event.getStartDateTime());
+    }
+
+    private void unindexNonRecurringEvent(Event event) {
+        LocalDateTime start = nonRecurringEventStarts.remove(event);
+        if (start == null) {
+            return;
+        }
+
+        ArrayList<Event> eventsAtStart = nonRecurringEvents.get(start);
+        eventsAtStart.removeIf(indexedEvent -> indexedEvent == event);
+        if (eventsAtStart.isEmpty()) {
+            nonRecurringEvents.remove(start);
+        }
+    }
+
+    /**
+     * Marks an event as changed, so that the timetable is saved with the next save.
+     *
+     * @param event Event that has changed.
+     */
+    public void markChanged(Event event) {
+        changedEvents.add(event);
+    }
+
+    /**
+     * Marks the timetable as saved.
+     */
+    public void clearChanges() {
+        changedEvents.clear();
+        isEventRemoved = false;
+    }
+
+    /**
+     * Returns whether any event has been added, changed or removed since the timetable was last saved.
+     *
+     * @return True if the timetable has unsaved changes, false otherwise.
+     */
+    public boolean hasChanges() {
+        return isEventRemoved || !changedEvents.isEmpty();
+    }
+
     /**
      * Gets the timetable for a specified year. Includes multiple recurrent events.
      *
      * @param year Year to check for timetable
-     * @return A HashMap that maps the name of the month to a HashMap that maps date to list of events that occurs on
-     *      that day, sorted by starting time.
+     * @return EventCalendar of the events that occur in the year, grouped by date and sorted by starting time.
      */
-    public HashMap<Month, HashMap<Integer, ArrayList<Event>>> getYearTimetable(int year) {
-        HashMap<Month, HashMap<Integer, ArrayList<Event>>> calendar = new HashMap<>();
-        for (int i = 1; i <= 12; i++) {
-            LocalDate startDate = LocalDate.of(year, i, 1);
-            LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-            calendar.putAll(getTimetable(startDate, endDate));
-        }
-        return calendar;
+    public EventCalendar getYearTimetable(int year) {
+        return getTimetable(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
     }
 
     /**
@@ -147,52 +266,25 @@ public class Timetable {
      *
      * @param year Year to check for timetable
      * @param month Month to check for timetable
-     * @return A HashMap that maps the name of the month to a HashMap that maps date to list of events that occurs on
-     *      that day, sorted by starting time.
+     * @return EventCalendar of the events that occur in the month, grouped by date and sorted by starting time.
      */
-    public HashMap<Month, HashMap<Integer, ArrayList<Event>>> getMonthTimetable(int year, int month) {
+    public EventCalendar getMonthTimetable(int year, int month) {
         LocalDate startDate = LocalDate.of(year, month, 1);
         LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
         return getTimetable(startDate, endDate);
     }
 
     /**
-     * Gets the timetable for a specified time period. Includes multiple recurrent events. Sorting does not work yet.
+     * Gets the timetable for a specified time period, which may span several years. Includes multiple recurrent
+     * events. Each recurring event is expanded once over the whole time period and the events of each date are
+     * sorted once.
      *
      * @param startDate Date to start checking for events.
      * @param endDate Date to stop checking for events.
-     * @return A HashMap that maps the name of the month to a HashMap that maps date to list of events that occurs on
-     *      that day, sorted by starting time.
+     * @return EventCalendar of the events that occur in the time period, grouped by date and sorted by starting time.
      */
-    public HashMap<Month, HashMap<Integer, ArrayList<Event>>> getTimetable(LocalDate startDate, LocalDate endDate) {
-        // Get an eventSet of all events occurring during the specified time period.
-        ArrayList<Event> eventSet = getAllEvents(startDate, endDate);
-
-        HashMap<Month, HashMap<Integer,ArrayList<Event>>> calendar = new HashMap<>();
-
-        // Map all events to their relevant date and month. Sort by startTime.
-        for (Event event : eventSet) {
-            Month month = event.getStartDate().getMonth();
-            int date = event.getStartDate().getDayOfMonth();
-            // Get a HashMap for the specified month. If it has not been initialized, initialize one.
-            HashMap<Integer, ArrayList<Event>> monthEvents = calendar.get(month);
-            if (monthEvents == null) {
-                monthEvents = new HashMap<>();
-            }
-            // Get the ArrayList representing Events occurring on that date of the month.
-            // If it has not been initialized, initialize one. Sorts the list after insertion.
-            ArrayList<Event> dailyEvents = monthEvents.get(date);
-            if (dailyEvents == null) {
-                dailyEvents = new ArrayList<>();
-            }
-            dailyEvents.add(event);
-            // Sorting doesn't work.
-            Collections.sort(dailyEvents);
-
-            monthEvents.put(date, dailyEvents);
-            calendar.put(month, monthEvents);
-        }
-        return calendar;
+    public EventCalendar getTimetable(LocalDate startDate, LocalDate endDate) {
+        return new EventCalendar(startDate, endDate, getAllEvents(startDate, endDate));
     }
 
     /**
@@ -204,28 +296,29 @@ public class Timetable {
      */
     public ArrayList<Event> getAllEvents(LocalDate startDate, LocalDate endDate) {
         ArrayList<Event> eventSet = new ArrayList<>();
-        eventSet.addAll(getNonRecurringEvents(startDate, endDate, nonRecurringEvents));
+        eventSet.addAll(getNonRecurringEvents(startDate, endDate));
         eventSet.addAll(getAllRecurringEvents(startDate, endDate,
                 dailyEvents, weeklyEvents, monthlyEvents, yearlyEvents));
         return eventSet;
     }
 
     /**
-     * Given a set of events, check if they will occur during a time period specified by the start and end period.
+     * Gets the non-recurring events that start during a time period specified by the start and end period,
+     * in order of their start.
      *
      * @param startDate Start date of period to check whether the event will occur. Inclusive of the date.
      * @param endDate End date to check whether the event will occur. Inclusive of the date.
-     * @param nonRecurringSet Set of non-recurring events.
      * @return ArrayList of Events that occur between the specified time period.
      */
-    private ArrayList<Event> getNonRecurringEvents(LocalDate startDate, LocalDate endDate,
-                                                   ArrayList<Event> nonRecurringSet) {
+    private ArrayList<Event> getNonRecurringEvents(LocalDate startDate, LocalDate endDate) {
         ArrayList<Event> eventSet = new ArrayList<>();
-        for (Event event : nonRecurringSet) {
-            LocalDate eventDate = event.getStartDate();
-            if (eventDate.compareTo(startDate) >= 0 && eventDate.compareTo(endDate) <= 0) {
-                eventSet.add(event);
-            }
+        if (startDate.compareTo(endDate) > 0) {
+            return eventSet;
+        }
+
+        for (ArrayList<Event> eventsAtStart : nonRecurringEvents.subMap(startDate.atStartOfDay(), true,
+                endDate.plusDays(1).atStartOfDay(), false).values()) {
+            eventSet.addAll(eventsAtStart);
         }
         return eventSet;
     }
@@ -268,61 +361,83 @@ public class Timetable {
     }
 
     /**
-     * Returns a PriorityQueue of Reminders from a set of events. PriorityQueue is sorted by their dates.
+     * Provides all events, including re-occurring events, that start during a specified period one at a time,
+     * in order of their starting time. Events are only expanded as they are asked for, so the caller can stop
+     * early without going through the whole period. Events that start at the same time are provided in the same
+     * order as getAllEvents.
      *
-     * @param setOfEvents Set of Events to search from.
-     * @return PriorityQueue of Reminder from all provided events.
+     * @param startDate Start of time period. Inclusive of date.
+     * @param endDate End of time period. Inclusive of date.
+     * @return Iterator over the events in order of their starting time.
      */
-    private PriorityQueue<Reminder> getEventSetReminder(ArrayList<Event> setOfEvents) {
-        PriorityQueue<Reminder> reminders = new PriorityQueue<>(Reminder::compareTo);
-        for (Event event : setOfEvents) {
-            for (LocalDate reminderDate : event.getReminderDates()) {
-                reminders.add(new Reminder(event, reminderDate));
+    public Iterator<Event> iterateEvents(LocalDate startDate, LocalDate endDate) {
+        ArrayList<Iterator<Event>> sources = new ArrayList<>();
+        if (startDate.compareTo(endDate) > 0) {
+            return new EventMerger(sources);
+        }
+
+        sources.add(nonRecurringEvents.subMap(startDate.atStartOfDay(), true,
+                endDate.plusDays(1).atStartOfDay(), false).values().stream()
+                .flatMap(ArrayList::stream)
+                .iterator());
+        for (RecurringEvent event : getRecurringEvents()) {
+            sources.add(event.iterateRecurrences(startDate, endDate));
+        }
+        return new EventMerger(sources);
+    }
+
+    /**
+     * Gets the next events that start at or after a specified time, in order of their starting time.
+     *
+     * @param dateTime Time to start looking for events from.
+     * @param count Maximum number of events to get.
+     * @return ArrayList of at most count events.
+     */
+    public ArrayList<Event> getUpcomingEvents(LocalDateTime dateTime, int count) {
+        ArrayList<Event> upcomingEvents = new ArrayList<>();
+        Iterator<Event> events = iterateEvents(dateTime.toLocalDate(), RecurringEvent.DEFAULT_END_RECURRENCE);
+        while (upcomingEvents.size() < count && events.hasNext()) {
+            Event event = events.next();
+            if (event.getStartDateTime().compareTo(dateTime) >= 0) {
+                upcomingEvents.add(event);
             }
         }
-        return reminders;
+        return upcomingEvents;
     }
 
+    /**
+     * Returns the recurring events in the timetable, in the order their occurrences are listed in getAllEvents.
+     *
+     * @return ArrayList of the recurring events.
+     */
+    private ArrayList<RecurringEvent> getRecurringEvents() {
+        ArrayList<RecurringEvent> recurringEvents = new ArrayList<>();
+        recurringEvents.addAll(dailyEvents);
+        recurringEvents.addAll(weeklyEvents);
+        recurringEvents.addAll(monthlyEvents);
+        recurringEvents.addAll(yearlyEvents);
+        return recurringEvents;
+    }
 
     /**
-     * A method that gets all reminders that should go off today. It takes in events for the next 1 month and gets all
-     * their reminders.
+     * A method that gets all reminders that should go off today. Reminders are looked up from the reminder index,
+     * which is kept up to date as events are added, edited and removed.
      *
      * @return An ArrayList that contains all the reminders to go off today.
      */
     public ArrayList<Reminder> getReminders() {
-        LocalDate today = LocalDate.now();
-        // As reminders are set to maximum 1 week earlier,
-        // we play it safe by looking for all 1 events in a one month time period.
-        LocalDate endDate = today.plusMonths(1);
-        ArrayList<Event> eventSet = getAllEvents(today, endDate);
-        ArrayList<Reminder> todayReminders = new ArrayList<>();
-        PriorityQueue<Reminder> reminders = getEventSetReminder(eventSet);
-        while (reminders.size() > 0 && reminders.peek().reminderDue(today)) {
-            Reminder reminder = reminders.poll();
-            assert reminder != null;
-            if (reminder.toRemind(today)) {
-                todayReminders.add(reminder);
-            }
-        }
-        return todayReminders;
+        return reminderIndex.getReminders(LocalDate.now(), events);
     }
 
     /**
-     * Compares this event to all other events stored in the timetable and get all events that clashes.
+     * Gets the first clashes of an event with the events stored in the timetable, in order of the start of the
+     * stored occurrences. A recurring event is checked over every date that it re-occurs on.
      *
-     * @param event Event to be checked against the timetable
-     * @return ArrayList of Events that clashes.
+     * @param event Event to be checked against the timetable.
+     * @param maxClashes Maximum number of clashes to get.
+     * @return ArrayList of at most maxClashes clashes.
      */
-    public ArrayList<Event> getClashingEvents(Event event) {
-        ArrayList<Event> clashedEvents = new ArrayList<>();
-        LocalDate eventDate = event.getStartDate();
-        ArrayList<Event> eventsHappening = getAllEvents(eventDate, eventDate);
-        for (Event storedEvent : eventsHappening) {
-            if (event.occursDuringEvent(storedEvent)) {
-                clashedEvents.add(storedEvent);
-            }
-        }
-        return clashedEvents;
+    public ArrayList<Clash> getClashes(Event event, int maxClashes) {
+        return new ClashDetector(getRecurringEvents(), nonRecurringEvents).getClashes(event, maxClashes);
     }
 }
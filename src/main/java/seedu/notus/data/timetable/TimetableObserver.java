@@ -0,0 +1,21 @@
+package seedu.notus.data.timetable;
+
+/**
+ * Represents an object that is notified when the events stored in a Timetable change.
+ */
+public interface TimetableObserver {
+
+    /**
+     * Called after an event has been added to the timetable, or after an event has been edited in place.
+     *
+     * @param event Event stored in the timetable.
+     */
+    void eventAdded(Event event);
+
+    /**
+     * Called after an event has been removed from the timetable, or before an event is edited in place.
+     *
+     * @param event Event that was stored in the timetable.
+     */
+    void eventRemoved(Event event);
+}
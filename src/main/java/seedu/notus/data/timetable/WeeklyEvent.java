@@ -4,6 +4,7 @@ import seedu.notus.data.tag.Tag;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -57,4 +58,9 @@ public class WeeklyEvent extends RecurringEvent {
     public LocalDate timeStep(LocalDate date, int steps) {
         return date.plusWeeks(steps * TIME_STEP);
     }
+
+    @Override
+    public long getStepsBetween(LocalDate startDate, LocalDate endDate) {
+        return ChronoUnit.WEEKS.between(startDate, endDate) / TIME_STEP;
+    }
 }
@@ -0,0 +1,94 @@
+package seedu.notus.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+/**
+ * Reads the lines of the storage files.
+ * Small files are read through a buffered reader, while large files are memory-mapped and split into lines directly
+ * from their bytes. Either way, a line ends at a line feed, a carriage return, or a carriage return followed by a
+ * line feed, as in {@link BufferedReader#readLine()}.
+ */
+public class LineReader {
+    /** Size in bytes from which files are memory-mapped. */
+    public static final long MAPPING_THRESHOLD = 1024 * 1024;
+
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    /**
+     * Reads all the lines of the file at the given path. Line separators are not included in the lines.
+     *
+     * @param path Path of the file to be read.
+     * @return lines of the file.
+     * @throws IOException when the file cannot be read.
+     */
+    public static ArrayList<String> readLines(String path) throws IOException {
+        Path file = Paths.get(path);
+        long size = Files.size(file);
+
+        if (size >= MAPPING_THRESHOLD && size <= Integer.MAX_VALUE) {
+            return readMappedLines(file, size);
+        }
+        return readBufferedLines(file);
+    }
+
+    /**
+     * Reads the lines of a file through a buffered reader.
+     */
+    static ArrayList<String> readBufferedLines(Path file) throws IOException {
+        ArrayList<String> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Reads the lines of a file by memory-mapping it, scanning the bytes for line separators and decoding each line
+     * at once. Splitting on the separator bytes is safe for UTF-8 as they never occur within a multi-byte character.
+     */
+    static ArrayList<String> readMappedLines(Path file, long size) throws IOException {
+        ArrayList<String> lines = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int end = buffer.limit();
+            int lineStart = 0;
+
+            for (int i = 0; i < end; i++) {
+                byte b = buffer.get(i);
+                if (b != LINE_FEED && b != CARRIAGE_RETURN) {
+                    continue;
+                }
+                lines.add(decodeLine(buffer, lineStart, i));
+                if (b == CARRIAGE_RETURN && i + 1 < end && buffer.get(i + 1) == LINE_FEED) {
+                    i++;
+                }
+                lineStart = i + 1;
+            }
+
+            if (lineStart < end) {
+                lines.add(decodeLine(buffer, lineStart, end));
+            }
+        }
+        return lines;
+    }
+
+    private static String decodeLine(MappedByteBuffer buffer, int start, int end) {
+        byte[] lineBytes = new byte[end - start];
+        buffer.position(start);
+        buffer.get(lineBytes);
+        return new String(lineBytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.notus.storage;
+
+import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.NoteContentLoader;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loads the content of notes from their content files on demand.
+ * Only the most recently used contents are kept in memory, the least recently used are unloaded from their notes.
+ */
+public class NoteContentCache implements NoteContentLoader {
+    /** logging. */
+    private static final Logger LOGGER = Logger.getLogger("StorageManager");
+
+    /** Default number of note contents kept in memory. */
+    public static final int DEFAULT_CAPACITY = 128;
+
+    private final StorageManager storageManager;
+    private final ParallelContentLoader contentLoader;
+    private final LinkedHashMap<Note, Boolean> loadedNotes;
+
+    /**
+     * Constructs a NoteContentCache that keeps at most the given number of note contents in memory.
+     *
+     * @param storageManager StorageManager used to read the content files.
+     * @param capacity Maximum number of note contents kept in memory.
+     */
+    public NoteContentCache(StorageManager storageManager, int capacity) {
+        assert capacity > 0 : "Capacity should be positive";
+        this.storageManager = storageManager;
+        this.contentLoader = new ParallelContentLoader(storageManager);
+        this.loadedNotes = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Note, Boolean> eldest) {
+                if (size() > capacity) {
+                    eldest.getKey().unloadContent();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public synchronized ArrayList<String> loadContent(Note note) {
+        ArrayList<String> content = readContent(note);
+        loadedNotes.put(note, true);
+        return content;
+    }
+
+    @Override
+    public ArrayList<String> readContent(Note note) {
+        try {
+            return storageManager.getNoteContent(note, note.getIsArchived());
+        } catch (SystemException exception) {
+            LOGGER.log(Level.WARNING, "Unable to load content of: " + note.getTitle());
+            return new ArrayList<>();
+        }
+    }
+
+    @Override
+    public ArrayList<ArrayList<String>> readContents(List<Note> notes) {
+        return contentLoader.readContents(notes);
+    }
+
+    @Override
+    public String loadPreview(Note note) {
+        try {
+            return storageManager.getNoteContentPreview(note.getTitle(), note.getIsArchived());
+        } catch (SystemException exception) {
+            LOGGER.log(Level.WARNING, "Unable to load preview of: " + note.getTitle());
+            return "";
+        }
+    }
+
+    /**
+     * Returns the number of note contents currently kept in memory.
+     */
+    public synchronized int getLoadedCount() {
+        loadedNotes.keySet().removeIf(note -> !note.isContentLoaded());
+        return loadedNotes.size();
+    }
+}
@@ -0,0 +1,318 @@
+package seedu.notus.storage;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.notus.ui.Formatter.LS;
+import static seedu.notus.util.PrefixSyntax.PREFIX_DELIMITER;
+import static seedu.notus.util.PrefixSyntax.PREFIX_PIN;
+import static seedu.notus.util.PrefixSyntax.PREFIX_TITLE;
+
+/**
+ * Represents an append-only journal of note detail mutations for a notebook snapshot file.
+ * Each change is written as a single record, and the records are folded into the snapshot in the background
+ * once enough of them have accumulated.
+ */
+public class NoteJournal {
+    /** logging. */
+    private static final Logger LOGGER = Logger.getLogger("StorageManager");
+
+    /** Record markers. */
+    private static final String RECORD_PUT = "put ";
+    private static final String RECORD_DELETE = "del ";
+    private static final String RECORD_RENAME = "ren ";
+
+    /** File suffixes for the live journal and the journal segment sealed for compaction. */
+    public static final String JOURNAL_SUFFIX = ".journal";
+    public static final String SEALED_SUFFIX = ".journal.old";
+
+    /** Default number of records before the journal is compacted. */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 256;
+
+    private final File snapshotFile;
+    private final File journalFile;
+    private final File sealedFile;
+    private final ExecutorService compactor;
+    private final int compactionThreshold;
+
+    /**
+     * Holds the details of a note while the journal is folded, with the position of the note in the snapshot.
+     */
+    private static class FoldedNote {
+        private final long position;
+        private final String details;
+
+        private FoldedNote(long position, String details) {
+            this.position = position;
+            this.details = details;
+        }
+    }
+
+    private final Object snapshotLock = new Object();
+    private int recordCount = 0;
+    private Future<?> pendingCompaction;
+
+    /**
+     * Constructs a NoteJournal for the given snapshot file.
+     *
+     * @param snapshotPath Path of the notebook snapshot file.
+     * @param compactor Executor used to fold sealed journal segments into the snapshot.
+     * @param compactionThreshold Number of records to append before a compaction is scheduled.
+     */
+    public NoteJournal(String snapshotPath, ExecutorService compactor, int compactionThreshold) {
+        assert compactionThreshold > 0 : "Compaction threshold should be positive";
+        this.snapshotFile = new File(snapshotPath);
+        this.journalFile = new File(snapshotPath + JOURNAL_SUFFIX);
+        this.sealedFile = new File(snapshotPath + SEALED_SUFFIX);
+        this.compactor = compactor;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Appends a record that adds or replaces the details of a note.
+     *
+     * @param noteSaveString Save string of the note as produced by Note#toSaveString.
+     * @throws IOException when unable to write to the journal.
+     */
+    public void put(String noteSaveString) throws IOException {
+        String record = noteSaveString.endsWith(LS) ? noteSaveString : noteSaveString + LS;
+        append(RECORD_PUT + record);
+    }
+
+    /**
+     * Appends a record that removes the details of a note.
+     *
+     * @param title Title of the note to be removed.
+     * @throws IOException when unable to write to the journal.
+     */
+    public void delete(String title) throws IOException {
+        append(RECORD_DELETE + title + LS);
+    }
+
+    /**
+     * Appends a record that replaces the details of a note saved under another title,
+     * keeping the position of the note in the snapshot.
+     *
+     * @param oldTitle Title the details of the note were saved under.
+     * @param noteSaveString Save string of the note as produced by Note#toSaveString.
+     * @throws IOException when unable to write to the journal.
+     */
+    public void rename(String oldTitle, String noteSaveString) throws IOException {
+        String record = noteSaveString.endsWith(LS) ? noteSaveString : noteSaveString + LS;
+        append(RECORD_RENAME + oldTitle + " " + record);
+    }
+
+    private synchronized void append(String record) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(journalFile.toPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(record);
+        }
+        recordCount++;
+
+        if (recordCount >= compactionThreshold && (pendingCompaction == null || pendingCompaction.isDone())) {
+            // A sealed segment left behind by a failed compaction holds older records than the live journal,
+            // so it is compacted again instead of being replaced, and the live journal keeps growing until then.
+            if (!sealedFile.exists()) {
+                if (!journalFile.renameTo(sealedFile)) {
+                    LOGGER.log(Level.WARNING, "Unable to seal journal: " + journalFile);
+                    return;
+                }
+                recordCount = 0;
+            }
+            pendingCompaction = compactor.submit(this::compactSealedSegment);
+        }
+    }
+
+    private void compactSealedSegment() {
+        synchronized (snapshotLock) {
+            try {
+                writeSnapshot(fold(sealedFile));
+                sealedFile.delete();
+                LOGGER.log(Level.INFO, "Compacted journal into: " + snapshotFile);
+            } catch (IOException exception) {
+                LOGGER.log(Level.SEVERE, "Unable to compact journal: " + sealedFile, exception);
+            }
+        }
+    }
+
+    /**
+     * Folds any journal records left over from a previous session into the snapshot.
+     * Should be called before the snapshot is read.
+     *
+     * @throws IOException when unable to read or write the journal files.
+     */
+    public synchronized void recover() throws IOException {
+        awaitCompaction();
+        synchronized (snapshotLock) {
+            if (!sealedFile.exists() && !journalFile.exists()) {
+                return;
+            }
+            writeSnapshot(fold(sealedFile, journalFile));
+            sealedFile.delete();
+            journalFile.delete();
+            recordCount = 0;
+            LOGGER.log(Level.INFO, "Recovered journal into: " + snapshotFile);
+        }
+    }
+
+    /**
+     * Replaces the snapshot with the given save strings and discards the journal.
+     *
+     * @param noteSaveStrings Save strings of every note in the notebook.
+     * @throws IOException when unable to write to the snapshot.
+     */
+    public synchronized void rewrite(ArrayList<String> noteSaveStrings) throws IOException {
+        awaitCompaction();
+        synchronized (snapshotLock) {
+            writeSnapshot(noteSaveStrings);
+            sealedFile.delete();
+            journalFile.delete();
+            recordCount = 0;
+        }
+    }
+
+    /**
+     * Blocks until the scheduled compaction, if any, has completed.
+     */
+    public synchronized void awaitCompaction() {
+        if (pendingCompaction == null) {
+            return;
+        }
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException exception) {
+            LOGGER.log(Level.SEVERE, "Journal compaction failed.", exception);
+        }
+        pendingCompaction = null;
+    }
+
+    /**
+     * Applies the records of the journal segments to the notes in the snapshot. Each record is applied with a
+     * constant number of map operations, and the notes are put back in order of their positions once at the end.
+     */
+    private ArrayList<String> fold(File... segments) throws IOException {
+        Map<String, FoldedNote> notes = new HashMap<>();
+        long nextPosition = 0;
+
+        for (String line : readLines(snapshotFile)) {
+            nextPosition = foldPut(notes, line, nextPosition);
+        }
+
+        for (File segment : segments) {
+            for (String line : readLines(segment)) {
+                if (line.startsWith(RECORD_PUT)) {
+                    nextPosition = foldPut(notes, line.substring(RECORD_PUT.length()), nextPosition);
+                } else if (line.startsWith(RECORD_DELETE)) {
+                    notes.remove(line.substring(RECORD_DELETE.length()).trim().toLowerCase());
+                } else if (line.startsWith(RECORD_RENAME)) {
+                    nextPosition = foldRename(notes, line.substring(RECORD_RENAME.length()), nextPosition);
+                } else {
+                    LOGGER.log(Level.WARNING, "Skipped unrecognised journal record in: " + segment);
+                }
+            }
+        }
+
+        ArrayList<FoldedNote> foldedNotes = new ArrayList<>(notes.values());
+        foldedNotes.sort(Comparator.comparingLong(note -> note.position));
+        ArrayList<String> lines = new ArrayList<>();
+        for (FoldedNote note : foldedNotes) {
+            lines.add(note.details);
+        }
+        return lines;
+    }
+
+    /**
+     * Adds or replaces the details of a note. A replaced note keeps its position, and a new note is placed last.
+     *
+     * @return the position for the next new note.
+     */
+    private static long foldPut(Map<String, FoldedNote> notes, String details, long nextPosition) {
+        String key = getKey(details);
+        FoldedNote note = notes.get(key);
+        if (note != null) {
+            notes.put(key, new FoldedNote(note.position, details));
+            return nextPosition;
+        }
+        notes.put(key, new FoldedNote(nextPosition, details));
+        return nextPosition + 1;
+    }
+
+    /**
+     * Replaces the details saved under the old title of a rename record with the new details in the same position.
+     * The old title is separated from the new details by the title prefix the details start with.
+     *
+     * @return the position for the next new note.
+     */
+    private static long foldRename(Map<String, FoldedNote> notes, String record, long nextPosition) {
+        int detailsStart = record.indexOf(" " + PREFIX_DELIMITER + PREFIX_TITLE + " ");
+        if (detailsStart == -1) {
+            LOGGER.log(Level.WARNING, "Skipped malformed rename record: " + record);
+            return nextPosition;
+        }
+
+        String oldKey = record.substring(0, detailsStart).trim().toLowerCase();
+        String details = record.substring(detailsStart + 1);
+        FoldedNote oldNote = notes.remove(oldKey);
+        if (oldNote == null) {
+            return foldPut(notes, details, nextPosition);
+        }
+
+        // a note already saved under the new title keeps the earlier of the two positions
+        String newKey = getKey(details);
+        FoldedNote existingNote = notes.get(newKey);
+        long position = (existingNote == null) ? oldNote.position : Math.min(oldNote.position, existingNote.position);
+        notes.put(newKey, new FoldedNote(position, details));
+        return nextPosition;
+    }
+
+    private void writeSnapshot(ArrayList<String> lines) throws IOException {
+        SnapshotWriter.write(snapshotFile.getPath(), lines);
+    }
+
+    private static ArrayList<String> readLines(File file) throws IOException {
+        ArrayList<String> lines = new ArrayList<>();
+        if (!file.exists()) {
+            return lines;
+        }
+
+        for (String line : LineReader.readLines(file.getPath())) {
+            if (!line.isBlank()) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the case-insensitive title key of a note save string.
+     *
+     * @param details Save string of a note.
+     * @return Lower case title of the note.
+     */
+    static String getKey(String details) {
+        String titlePrefix = PREFIX_DELIMITER + PREFIX_TITLE + " ";
+        String pinPrefix = " " + PREFIX_DELIMITER + PREFIX_PIN + " ";
+
+        int start = details.indexOf(titlePrefix);
+        start = (start == -1) ? 0 : start + titlePrefix.length();
+        int end = details.indexOf(pinPrefix, start);
+        end = (end == -1) ? details.length() : end;
+
+        return details.substring(start, end).trim().toLowerCase();
+    }
+}
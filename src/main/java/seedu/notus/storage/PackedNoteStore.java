@@ -0,0 +1,428 @@
+package seedu.notus.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Stores the content of every note in a single pack file of length-prefixed bodies.
+ * A sidecar index maps each note title to the offset and length of its body and whether the note is archived,
+ * so archiving and renaming a note only update the index. Overwritten and deleted bodies are left in the pack
+ * until they take up more space than the live bodies, at which point the pack is compacted.
+ * Every change is appended to the index as a record that replaces or deletes the entry of a title, and the index
+ * is only rewritten once its outdated records outnumber the live entries, or when the pack is compacted.
+ */
+public class PackedNoteStore {
+    /** logging. */
+    private static final Logger LOGGER = Logger.getLogger("StorageManager");
+
+    /** Suffix of the index written during compaction, before the compacted pack replaces the pack file. */
+    public static final String NEXT_INDEX_SUFFIX = ".next";
+
+    /** Size in bytes of the length prefix of each body. */
+    private static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+
+    /** Number of wasted bytes below which the pack is never compacted. */
+    private static final long MINIMUM_COMPACTION_SIZE = 64 * 1024;
+
+    /** Number of outdated index records below which the index is never rewritten. */
+    private static final int MINIMUM_INDEX_REWRITE_SIZE = 64;
+
+    /** Marker of an index record that deletes the entry of a title. */
+    private static final String DELETE_RECORD = "del ";
+
+    private static final String INDEX_DELIMITER = " ";
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final Path packPath;
+    private final Path indexPath;
+    private final HashMap<String, Entry> entries = new HashMap<>();
+
+    private FileChannel channel;
+    private long liveBytes;
+    private int indexRecordCount;
+
+    /**
+     * Constructs a PackedNoteStore backed by the given pack and index files.
+     * The files are created when the store is first used.
+     *
+     * @param packPath Path of the file storing the bodies of the notes.
+     * @param indexPath Path of the file storing the index of the bodies.
+     */
+    public PackedNoteStore(String packPath, String indexPath) {
+        this.packPath = Paths.get(packPath);
+        this.indexPath = Paths.get(indexPath);
+    }
+
+    /**
+     * Returns whether the content of a note is stored with the given archived status.
+     *
+     * @param title Title of the note.
+     * @param isArchived Archived status the note is expected to have.
+     * @throws IOException when unable to open the store.
+     */
+    public synchronized boolean contains(String title, boolean isArchived) throws IOException {
+        Entry entry = getEntry(title);
+        return entry != null && entry.isArchived == isArchived;
+    }
+
+    /**
+     * Reads the content of a note.
+     *
+     * @param title Title of the note.
+     * @param isArchived Archived status the note is expected to have.
+     * @return lines of the content, or null if no content is stored for the note with that archived status.
+     * @throws IOException when unable to read the pack file or the stored body is corrupted.
+     */
+    public synchronized ArrayList<String> read(String title, boolean isArchived) throws IOException {
+        Entry entry = getEntry(title);
+        if (entry == null || entry.isArchived != isArchived) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH_PREFIX_SIZE + entry.length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, entry.offset + buffer.position()) < 0) {
+                throw new IOException("Pack file ends within the body of: " + title);
+            }
+        }
+        buffer.flip();
+        if (buffer.getInt() != entry.length) {
+            throw new IOException("Length prefix does not match the index for: " + title);
+        }
+
+        String body = new String(buffer.array(), LENGTH_PREFIX_SIZE, entry.length, StandardCharsets.UTF_8);
+        if (body.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(body.split(LINE_SEPARATOR, -1)));
+    }
+
+    /**
+     * Appends the content of a note to the pack file and points the index at it,
+     * replacing any content previously stored for the note.
+     *
+     * @param title Title of the note.
+     * @param isArchived Archived status of the note.
+     * @param content Lines of the content.
+     * @throws IOException when unable to write to the pack or index file.
+     */
+    public synchronized void write(String title, boolean isArchived, List<String> content) throws IOException {
+        open();
+        byte[] body = String.join(LINE_SEPARATOR, content).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH_PREFIX_SIZE + body.length);
+        buffer.putInt(body.length).put(body).flip();
+
+        long offset = channel.size();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, offset + buffer.position());
+        }
+        // the body has to be on disk before the index refers to it
+        channel.force(false);
+
+        Entry previous = entries.put(getKey(title), new Entry(title, isArchived, offset, body.length));
+        if (previous != null) {
+            liveBytes -= previous.getRecordSize();
+        }
+        liveBytes += LENGTH_PREFIX_SIZE + body.length;
+        appendIndex(encodeEntry(entries.get(getKey(title))));
+        compactIfWasteful();
+    }
+
+    /**
+     * Removes the content of a note from the index. The body is discarded when the pack is next compacted.
+     *
+     * @param title Title of the note.
+     * @return false if no content is stored for the note.
+     * @throws IOException when unable to write the index file.
+     */
+    public synchronized boolean delete(String title) throws IOException {
+        open();
+        Entry entry = entries.remove(getKey(title));
+        if (entry == null) {
+            return false;
+        }
+        liveBytes -= entry.getRecordSize();
+        appendIndex(DELETE_RECORD + title);
+        compactIfWasteful();
+        return true;
+    }
+
+    /**
+     * Changes the archived status of the content of a note without rewriting its body.
+     *
+     * @param title Title of the note.
+     * @param isArchived New archived status of the note.
+     * @return false if no content is stored for the note.
+     * @throws IOException when unable to write the index file.
+     */
+    public synchronized boolean setArchived(String title, boolean isArchived) throws IOException {
+        Entry entry = getEntry(title);
+        if (entry == null) {
+            return false;
+        }
+        entry.isArchived = isArchived;
+        appendIndex(encodeEntry(entry));
+        return true;
+    }
+
+    /**
+     * Changes the title the content of a note is stored under without rewriting its body.
+     *
+     * @param oldTitle Current title of the note.
+     * @param newTitle New title of the note.
+     * @return false if no content is stored for the note.
+     * @throws IOException when unable to write the index file.
+     */
+    public synchronized boolean rename(String oldTitle, String newTitle) throws IOException {
+        open();
+        Entry entry = entries.remove(getKey(oldTitle));
+        if (entry == null) {
+            return false;
+        }
+        entry.title = newTitle;
+        Entry replaced = entries.put(getKey(newTitle), entry);
+        if (replaced != null) {
+            liveBytes -= replaced.getRecordSize();
+        }
+        appendIndex(DELETE_RECORD + oldTitle, encodeEntry(entry));
+        return true;
+    }
+
+    /**
+     * Returns the number of notes whose content is stored.
+     *
+     * @throws IOException when unable to open the store.
+     */
+    public synchronized int getSize() throws IOException {
+        open();
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of bytes in the pack file taken up by overwritten and deleted bodies.
+     *
+     * @throws IOException when unable to open the store.
+     */
+    public synchronized long getWastedBytes() throws IOException {
+        open();
+        return channel.size() - liveBytes;
+    }
+
+    /**
+     * Closes the pack file. The store is reopened when it is next used.
+     *
+     * @throws IOException when unable to close the pack file.
+     */
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private Entry getEntry(String title) throws IOException {
+        open();
+        return entries.get(getKey(title));
+    }
+
+    private static String getKey(String title) {
+        return title.toLowerCase();
+    }
+
+    /**
+     * Opens the pack file and reads the index, finishing any compaction interrupted in the previous session.
+     */
+    private void open() throws IOException {
+        if (channel != null) {
+            return;
+        }
+
+        recoverCompaction();
+        channel = FileChannel.open(packPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        entries.clear();
+        liveBytes = 0;
+        indexRecordCount = 0;
+
+        if (!Files.exists(indexPath)) {
+            return;
+        }
+        for (String line : LineReader.readLines(indexPath.toString())) {
+            indexRecordCount++;
+            if (line.startsWith(DELETE_RECORD)) {
+                Entry deleted = entries.remove(getKey(line.substring(DELETE_RECORD.length())));
+                if (deleted != null) {
+                    liveBytes -= deleted.getRecordSize();
+                }
+                continue;
+            }
+            Entry entry = decodeEntry(line);
+            if (entry == null || entry.offset + entry.getRecordSize() > channel.size()) {
+                LOGGER.log(Level.WARNING, "Skipped corrupted index record: " + line);
+                continue;
+            }
+            Entry replaced = entries.put(getKey(entry.title), entry);
+            if (replaced != null) {
+                liveBytes -= replaced.getRecordSize();
+            }
+            liveBytes += entry.getRecordSize();
+        }
+    }
+
+    /**
+     * Completes or discards a compaction that was interrupted.
+     * The compacted pack only replaces the pack file once the next index has been written,
+     * so the next index is kept only if the compacted pack is no longer waiting to be moved.
+     */
+    private void recoverCompaction() throws IOException {
+        Path nextIndexPath = Paths.get(indexPath + NEXT_INDEX_SUFFIX);
+        Path compactedPackPath = Paths.get(packPath + SnapshotWriter.TEMP_SUFFIX);
+
+        if (Files.exists(compactedPackPath)) {
+            Files.delete(compactedPackPath);
+            Files.deleteIfExists(nextIndexPath);
+        } else if (Files.exists(nextIndexPath)) {
+            LOGGER.log(Level.INFO, "Completing interrupted compaction of: " + packPath);
+            replace(nextIndexPath, indexPath);
+        }
+    }
+
+    /**
+     * Appends records to the index, or rewrites the index once most of its records are outdated.
+     */
+    private void appendIndex(String... records) throws IOException {
+        indexRecordCount += records.length;
+        if (indexRecordCount - entries.size() >= Math.max(MINIMUM_INDEX_REWRITE_SIZE, entries.size())) {
+            writeIndex(indexPath.toString());
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (String record : records) {
+            lines.append(record).append(LINE_SEPARATOR);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel index = FileChannel.open(indexPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                index.write(buffer);
+            }
+            index.force(false);
+        }
+    }
+
+    private void writeIndex(String path) throws IOException {
+        ArrayList<String> lines = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            lines.add(encodeEntry(entry));
+        }
+        SnapshotWriter.write(path, lines);
+        indexRecordCount = entries.size();
+    }
+
+    private static String encodeEntry(Entry entry) {
+        return entry.offset + INDEX_DELIMITER + entry.length + INDEX_DELIMITER
+                + entry.isArchived + INDEX_DELIMITER + entry.title;
+    }
+
+    private static Entry decodeEntry(String line) {
+        String[] fields = line.split(INDEX_DELIMITER, 4);
+        if (fields.length < 4 || fields[3].isBlank()) {
+            return null;
+        }
+        try {
+            return new Entry(fields[3], Boolean.parseBoolean(fields[2]), Long.parseLong(fields[0]),
+                    Integer.parseInt(fields[1]));
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    private void compactIfWasteful() throws IOException {
+        long wastedBytes = channel.size() - liveBytes;
+        if (wastedBytes >= MINIMUM_COMPACTION_SIZE && wastedBytes > liveBytes) {
+            compact();
+        }
+    }
+
+    /**
+     * Copies the live bodies into a new pack file in their current order and replaces the pack file with it.
+     */
+    private void compact() throws IOException {
+        Path compactedPackPath = Paths.get(packPath + SnapshotWriter.TEMP_SUFFIX);
+        ArrayList<Entry> liveEntries = new ArrayList<>(entries.values());
+        liveEntries.sort(Comparator.comparingLong(entry -> entry.offset));
+
+        long[] offsets = new long[liveEntries.size()];
+        try (FileChannel compacted = FileChannel.open(compactedPackPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long position = 0;
+            for (int i = 0; i < liveEntries.size(); i++) {
+                Entry entry = liveEntries.get(i);
+                offsets[i] = position;
+                long copied = 0;
+                while (copied < entry.getRecordSize()) {
+                    copied += channel.transferTo(entry.offset + copied, entry.getRecordSize() - copied, compacted);
+                }
+                position += copied;
+            }
+            compacted.force(true);
+        }
+
+        for (int i = 0; i < liveEntries.size(); i++) {
+            liveEntries.get(i).offset = offsets[i];
+        }
+        writeIndex(indexPath + NEXT_INDEX_SUFFIX);
+
+        channel.close();
+        channel = null;
+        replace(compactedPackPath, packPath);
+        replace(Paths.get(indexPath + NEXT_INDEX_SUFFIX), indexPath);
+        LOGGER.log(Level.INFO, "Compacted pack file: " + packPath);
+        open();
+    }
+
+    private static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Represents the location of the body of a note in the pack file.
+     */
+    private static class Entry {
+        private String title;
+        private boolean isArchived;
+        private long offset;
+        private final int length;
+
+        private Entry(String title, boolean isArchived, long offset, int length) {
+            this.title = title;
+            this.isArchived = isArchived;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        private long getRecordSize() {
+            return LENGTH_PREFIX_SIZE + length;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.notus.storage;
+
+import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.notebook.Note;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads the content files of many notes at once across a bounded pool of worker threads.
+ * The contents are returned or assigned to the notes in the order the notes were given.
+ */
+public class ParallelContentLoader {
+    /** logging. */
+    private static final Logger LOGGER = Logger.getLogger("StorageManager");
+
+    /** System property that sets the number of worker threads. */
+    public static final String THREAD_COUNT_PROPERTY = "notus.loaderThreads";
+
+    private final StorageManager storageManager;
+    private final int threadCount;
+
+    /**
+     * Constructs a ParallelContentLoader with the given number of worker threads.
+     *
+     * @param storageManager StorageManager used to read the content files.
+     * @param threadCount Maximum number of content files read at the same time.
+     */
+    public ParallelContentLoader(StorageManager storageManager, int threadCount) {
+        assert threadCount > 0 : "Thread count should be positive";
+        this.storageManager = storageManager;
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Constructs a ParallelContentLoader with one worker thread per available processor,
+     * unless the number of threads is set through the system property.
+     *
+     * @param storageManager StorageManager used to read the content files.
+     */
+    public ParallelContentLoader(StorageManager storageManager) {
+        this(storageManager, Math.max(1, Integer.getInteger(THREAD_COUNT_PROPERTY,
+                Runtime.getRuntime().availableProcessors())));
+    }
+
+    /**
+     * Reads the content of every note and sets it on the note.
+     * Notes whose content file cannot be read are given an empty content.
+     *
+     * @param notes Notes whose content is to be loaded.
+     */
+    public void loadContents(List<Note> notes) {
+        ArrayList<ArrayList<String>> contents = readContents(notes);
+        for (int i = 0; i < notes.size(); i++) {
+            notes.get(i).setContent(contents.get(i));
+        }
+    }
+
+    /**
+     * Reads the content of every note without setting it on the note.
+     * Notes whose content file cannot be read are given an empty content.
+     *
+     * @param notes Notes whose content is to be read.
+     * @return contents of the notes, in the order of the notes.
+     */
+    public ArrayList<ArrayList<String>> readContents(List<Note> notes) {
+        ArrayList<ArrayList<String>> contents = new ArrayList<>();
+        if (notes.isEmpty()) {
+            return contents;
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(threadCount, notes.size()));
+        try {
+            ArrayList<Future<ArrayList<String>>> futureContents = new ArrayList<>();
+            for (Note note : notes) {
+                futureContents.add(workers.submit(() -> storageManager.getNoteContent(note, note.getIsArchived())));
+            }
+
+            for (int i = 0; i < notes.size(); i++) {
+                contents.add(getContent(notes.get(i), futureContents.get(i)));
+            }
+        } finally {
+            workers.shutdown();
+        }
+        return contents;
+    }
+
+    private ArrayList<String> getContent(Note note, Future<ArrayList<String>> content) {
+        try {
+            return content.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException exception) {
+            if (!(exception.getCause() instanceof SystemException)) {
+                LOGGER.log(Level.SEVERE, "Unable to load content of: " + note.getTitle(), exception.getCause());
+            }
+            LOGGER.log(Level.WARNING, "Unable to find content of: " + note.getTitle());
+        }
+        return new ArrayList<>();
+    }
+}
@@ -0,0 +1,241 @@
+package seedu.notus.storage;
+
+import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.exception.SystemException.ExceptionType;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.tag.Tag;
+import seedu.notus.data.timetable.DailyEvent;
+import seedu.notus.data.timetable.Event;
+import seedu.notus.data.timetable.MonthlyEvent;
+import seedu.notus.data.timetable.RecurringEvent;
+import seedu.notus.data.timetable.WeeklyEvent;
+import seedu.notus.data.timetable.YearlyEvent;
+import seedu.notus.util.DateTimeManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static seedu.notus.ui.Formatter.LS;
+import static seedu.notus.util.PrefixSyntax.PREFIX_DELIMITER;
+import static seedu.notus.util.PrefixSyntax.PREFIX_END_TIMING;
+import static seedu.notus.util.PrefixSyntax.PREFIX_PIN;
+import static seedu.notus.util.PrefixSyntax.PREFIX_RECURRING;
+import static seedu.notus.util.PrefixSyntax.PREFIX_REMIND;
+import static seedu.notus.util.PrefixSyntax.PREFIX_STOP_RECURRING;
+import static seedu.notus.util.PrefixSyntax.PREFIX_TAG;
+import static seedu.notus.util.PrefixSyntax.PREFIX_TIMING;
+import static seedu.notus.util.PrefixSyntax.PREFIX_TITLE;
+import static seedu.notus.util.PrefixSyntax.STRING_SPLIT_DELIMITER;
+import static seedu.notus.util.PrefixSyntax.TIMING_SPLIT_DELIMITER;
+
+/**
+ * Encodes and decodes the Note and Event records of the storage files.
+ * Records are decoded straight into objects without going through the command parsers.
+ */
+public class RecordCodec {
+    private static final int CONTAINS_TAG_COLOR_INFO = 2;
+    private static final int DEFAULT_EVENT_LENGTH = 1;
+
+    /**
+     * Decodes a line of the notebook file into a Note without content.
+     *
+     * @param line Line of the notebook file.
+     * @param isArchived Whether the note belongs to the archived notebook.
+     * @return Decoded Note.
+     * @throws SystemException when the line is not a valid note record.
+     */
+    public static Note decodeNote(String line, boolean isArchived) throws SystemException {
+        String title = "";
+        boolean isPinned = false;
+        ArrayList<Tag> tags = new ArrayList<>();
+
+        for (String[] field : splitFields(line)) {
+            switch (field[0]) {
+            case PREFIX_TITLE:
+                title = field[1];
+                break;
+            case PREFIX_PIN:
+                isPinned = Boolean.parseBoolean(field[1]);
+                break;
+            case PREFIX_TAG:
+                tags.add(decodeTag(field[1]));
+                break;
+            default:
+                throw new SystemException(ExceptionType.EXCEPTION_INVALID_PREFIX);
+            }
+        }
+
+        if (title.isEmpty()) {
+            throw new SystemException(ExceptionType.EXCEPTION_MISSING_TITLE);
+        }
+        return new Note(title, new ArrayList<>(), isPinned, isArchived, tags);
+    }
+
+    /**
+     * Decodes a line of the timetable file into an Event.
+     *
+     * @param line Line of the timetable file.
+     * @return Decoded Event.
+     * @throws SystemException when the line is not a valid event record.
+     */
+    public static Event decodeEvent(String line) throws SystemException {
+        String title = "";
+        LocalDateTime startDateTime = null;
+        LocalDateTime endDateTime = null;
+        LocalDate endRecurrenceDate = null;
+        boolean isToRemind = false;
+        String recurrenceType = "";
+        HashMap<String, ArrayList<Integer>> reminderPeriods = new HashMap<>();
+        ArrayList<Tag> tags = new ArrayList<>();
+
+        for (String[] field : splitFields(line)) {
+            switch (field[0]) {
+            case PREFIX_TITLE:
+                title = field[1];
+                break;
+            case PREFIX_TIMING:
+                startDateTime = DateTimeManager.dateTimeParser(field[1]);
+                break;
+            case PREFIX_END_TIMING:
+                endDateTime = DateTimeManager.dateTimeParser(field[1]);
+                break;
+            case PREFIX_TAG:
+                tags.add(decodeTag(field[1]));
+                break;
+            case PREFIX_REMIND:
+                isToRemind = true;
+                reminderPeriods = decodeReminderPeriods(field[1]);
+                break;
+            case PREFIX_RECURRING:
+                recurrenceType = field[1].toLowerCase();
+                break;
+            case PREFIX_STOP_RECURRING:
+                endRecurrenceDate = DateTimeManager.dateTimeParser(field[1]).toLocalDate();
+                break;
+            default:
+                throw new SystemException(ExceptionType.EXCEPTION_INVALID_PREFIX);
+            }
+        }
+
+        if (title.isEmpty()) {
+            throw new SystemException(ExceptionType.EXCEPTION_MISSING_TITLE);
+        }
+        if (startDateTime == null) {
+            throw new SystemException(ExceptionType.EXCEPTION_MISSING_START_TIMING);
+        }
+        if (endDateTime == null) {
+            endDateTime = startDateTime.plusHours(DEFAULT_EVENT_LENGTH);
+        }
+
+        switch (recurrenceType) {
+        case "":
+            return new Event(title, startDateTime, endDateTime, isToRemind, false, reminderPeriods, tags);
+        case RecurringEvent.DAILY_RECURRENCE_TYPE:
+            return new DailyEvent(title, startDateTime, endDateTime, isToRemind, endRecurrenceDate,
+                    reminderPeriods, tags);
+        case RecurringEvent.WEEKLY_RECURRENCE_TYPE:
+            return new WeeklyEvent(title, startDateTime, endDateTime, isToRemind, endRecurrenceDate,
+                    reminderPeriods, tags);
+        case RecurringEvent.MONTHLY_RECURRENCE_TYPE:
+            return new MonthlyEvent(title, startDateTime, endDateTime, isToRemind, endRecurrenceDate,
+                    reminderPeriods, tags);
+        case RecurringEvent.YEARLY_RECURRENCE_TYPE:
+            return new YearlyEvent(title, startDateTime, endDateTime, isToRemind, endRecurrenceDate,
+                    reminderPeriods, tags);
+        default:
+            throw new SystemException(ExceptionType.EXCEPTION_INVALID_RECURRING_TYPE);
+        }
+    }
+
+    /**
+     * Encodes an Event into a line of the timetable file.
+     *
+     * @param event Event to be encoded.
+     * @return Line of the timetable file.
+     */
+    public static String encodeEvent(Event event) {
+        StringBuilder eventDetails = new StringBuilder();
+
+        eventDetails.append(PREFIX_DELIMITER).append(PREFIX_TITLE).append(" ").append(event.getTitle()).append(" ")
+                .append(PREFIX_DELIMITER).append(PREFIX_TIMING).append(" ")
+                .append(event.getStartDateTimeString()).append(" ")
+                .append(PREFIX_DELIMITER).append(PREFIX_END_TIMING).append(" ")
+                .append(event.getEndDateTimeString()).append(" ");
+
+        for (Tag tag: event.getTags()) {
+            eventDetails.append(PREFIX_DELIMITER).append(PREFIX_TAG).append(" ").append(tag.toSaveString())
+                    .append(" ");
+        }
+        eventDetails.append(" ");
+
+        ArrayList<String> reminderPeriods = event.getReminderPeriodsString();
+        if (!reminderPeriods.isEmpty()) {
+            eventDetails.append(PREFIX_DELIMITER).append(PREFIX_REMIND).append(" ");
+            for (String reminderPeriod : reminderPeriods) {
+                eventDetails.append(reminderPeriod).append(" ");
+            }
+        }
+
+        if (event instanceof RecurringEvent) {
+            RecurringEvent recEvent = (RecurringEvent) event;
+            eventDetails.append(PREFIX_DELIMITER).append(PREFIX_RECURRING).append(" ")
+                    .append(recEvent.getRecurrenceType()).append(" ")
+                    .append(PREFIX_DELIMITER).append(PREFIX_STOP_RECURRING).append(" ")
+                    .append(recEvent.getEndRecurrenceDateTime());
+        }
+        return eventDetails.append(LS).toString();
+    }
+
+    /**
+     * Splits a record into its prefix and value pairs. The prefix is in lower case and the value is trimmed.
+     */
+    private static ArrayList<String[]> splitFields(String line) throws SystemException {
+        ArrayList<String[]> fields = new ArrayList<>();
+        String[] segments = line.split(PREFIX_DELIMITER);
+
+        // the first segment is always empty as records start with the delimiter
+        if (!segments[0].isBlank()) {
+            throw new SystemException(ExceptionType.EXCEPTION_INVALID_INPUT_FORMAT);
+        }
+        for (int i = 1; i < segments.length; i++) {
+            String[] field = segments[i].split(STRING_SPLIT_DELIMITER, 2);
+            String value = (field.length == 2) ? field[1].trim() : "";
+            fields.add(new String[] {field[0].toLowerCase(), value});
+        }
+        return fields;
+    }
+
+    private static Tag decodeTag(String tagDetails) throws SystemException {
+        String[] tagInfo = tagDetails.split(STRING_SPLIT_DELIMITER, 2);
+        if (tagInfo[0].isBlank()) {
+            throw new SystemException(ExceptionType.EXCEPTION_MISSING_TAG);
+        }
+        String tagColor = (tagInfo.length == CONTAINS_TAG_COLOR_INFO) ? tagInfo[1].trim() : "";
+        return new Tag(tagInfo[0], tagColor);
+    }
+
+    private static HashMap<String, ArrayList<Integer>> decodeReminderPeriods(String periods) throws SystemException {
+        HashMap<String, ArrayList<Integer>> reminderPeriods = new HashMap<>();
+        if (periods.isBlank()) {
+            reminderPeriods.put(Event.REMINDER_DAY, new ArrayList<>(List.of(1)));
+            return reminderPeriods;
+        }
+
+        for (String period : periods.split(STRING_SPLIT_DELIMITER)) {
+            String[] periodUnit = period.split(TIMING_SPLIT_DELIMITER);
+            if (periodUnit.length != 2) {
+                throw new SystemException(ExceptionType.EXCEPTION_INVALID_REMINDER_FORMAT);
+            }
+            try {
+                reminderPeriods.computeIfAbsent(periodUnit[1], unit -> new ArrayList<>())
+                        .add(Integer.parseInt(periodUnit[0]));
+            } catch (NumberFormatException exception) {
+                throw new SystemException(ExceptionType.EXCEPTION_INVALID_REMINDER_FORMAT);
+            }
+        }
+        return reminderPeriods;
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.notus.storage;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import static seedu.notus.ui.Formatter.LS;
+
+/**
+ * Represents a writer that streams a full snapshot of a storage file through a single buffered handle.
+ * The snapshot is written to a temporary file and only replaces the original file once it is committed,
+ * so the original file is never left truncated or partially written.
+ */
+public class SnapshotWriter implements Closeable {
+    /** Suffix of the temporary file the snapshot is written to. */
+    public static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path target;
+    private final Path temp;
+    private final BufferedWriter writer;
+    private boolean isCommitted = false;
+
+    /**
+     * Opens a SnapshotWriter for the file at the given path.
+     *
+     * @param path Path of the file to be replaced.
+     * @throws IOException when unable to create the temporary file.
+     */
+    public SnapshotWriter(String path) throws IOException {
+        this.target = Paths.get(path);
+        this.temp = Paths.get(path + TEMP_SUFFIX);
+        this.writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a line to the snapshot. A line separator is appended if the line does not end with one.
+     *
+     * @param line Line to be written.
+     * @throws IOException when unable to write to the temporary file.
+     */
+    public void writeLine(String line) throws IOException {
+        writer.write(line);
+        if (!line.endsWith(LS)) {
+            writer.write(LS);
+        }
+    }
+
+    /**
+     * Flushes the snapshot and atomically replaces the original file with it.
+     *
+     * @throws IOException when unable to flush or move the temporary file.
+     */
+    public void commit() throws IOException {
+        writer.close();
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        isCommitted = true;
+    }
+
+    /**
+     * Closes the writer, discarding the snapshot if it has not been committed.
+     *
+     * @throws IOException when unable to close or delete the temporary file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!isCommitted) {
+            writer.close();
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Replaces the file at the given path with the given lines.
+     *
+     * @param path Path of the file to be replaced.
+     * @param lines Lines to be written.
+     * @throws IOException when unable to write the snapshot.
+     */
+    public static void write(String path, Iterable<String> lines) throws IOException {
+        try (SnapshotWriter snapshotWriter = new SnapshotWriter(path)) {
+            for (String line : lines) {
+                snapshotWriter.writeLine(line);
+            }
+            snapshotWriter.commit();
+        }
+    }
+}
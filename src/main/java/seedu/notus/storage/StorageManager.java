@@ -1,29 +1,33 @@
 package seedu.notus.storage;
 
 import seedu.notus.command.AddEventCommand;
-import seedu.notus.command.AddNoteCommand;
-import seedu.notus.command.Command;
 
 import seedu.notus.data.exception.SystemException;
 
 import seedu.notus.data.notebook.Note;
 import seedu.notus.data.notebook.Notebook;
-import seedu.notus.data.tag.Tag;
 import seedu.notus.data.tag.TagManager;
+import seedu.notus.data.tag.TaggableObject;
 
 import seedu.notus.data.timetable.Event;
-import seedu.notus.data.timetable.RecurringEvent;
 import seedu.notus.data.timetable.Timetable;
 
-import seedu.notus.util.PrefixSyntax;
 import seedu.notus.util.parser.ParserManager;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.HashSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
@@ -31,12 +35,6 @@ import java.util.logging.LogManager;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
-import static seedu.notus.ui.Formatter.LS;
-import static seedu.notus.util.PrefixSyntax.PREFIX_ARCHIVE;
-import static seedu.notus.util.PrefixSyntax.PREFIX_DELIMITER;
-import static seedu.notus.util.PrefixSyntax.PREFIX_LOAD;
-import static seedu.notus.util.PrefixSyntax.PREFIX_TAG;
-
 //@@author prachi2023
 
 /** Represents a StorageManager.
@@ -57,6 +55,14 @@ public class StorageManager {
     private static final String ARCHIVED_NOTEBOOK_FILE_PATH = "/archived_notebook.txt";
     private static final String TAG_FILE_PATH = "/tags.txt";
     private static final String TIMETABLE_FILE_PATH = "/timetable.txt";
+    private static final String PACK_FILE_PATH = "/notes.pack";
+    private static final String PACK_INDEX_FILE_PATH = "/notes.idx";
+
+    /** System property that loads the content of every note at startup instead of on demand. */
+    public static final String EAGER_CONTENT_PROPERTY = "notus.eagerContent";
+
+    /** System property that stores the content of every note in a single pack file instead of one file each. */
+    public static final String PACKED_STORE_PROPERTY = "notus.packedStore";
 
     /** Related classes. */
     private Timetable timetable;
@@ -64,6 +70,23 @@ public class StorageManager {
     private Notebook notebook;
     private TagManager tagManager;
 
+    /** Journals of note detail mutations and the executor that compacts them. */
+    private ExecutorService compactor;
+    private NoteJournal notebookJournal;
+    private NoteJournal archivedNotebookJournal;
+
+    /** Loads the content of notes on demand unless eager loading is requested. */
+    private final boolean isLazyContent = !Boolean.getBoolean(EAGER_CONTENT_PROPERTY);
+    private NoteContentCache contentCache;
+    private ParallelContentLoader contentLoader;
+
+    /** Whether the notebook detail files no longer match the content files, as detected while loading. */
+    private boolean isNotebookDrifted = false;
+    private boolean isArchivedNotebookDrifted = false;
+
+    /** Single file store of note contents, or null when each note has its own content file. */
+    private PackedNoteStore packedStore;
+
     public StorageManager(Timetable timetable, ParserManager parserManager,
                     Notebook notebook, TagManager tagManager) {
         this.timetable = timetable;
@@ -71,6 +94,21 @@ public class StorageManager {
         this.notebook = notebook;
         this.tagManager = tagManager;
 
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.notebookJournal = new NoteJournal(FOLDER_DIR + NOTEBOOK_FILE_PATH, compactor,
+                NoteJournal.DEFAULT_COMPACTION_THRESHOLD);
+        this.archivedNotebookJournal = new NoteJournal(FOLDER_DIR + ARCHIVED_NOTEBOOK_FILE_PATH, compactor,
+                NoteJournal.DEFAULT_COMPACTION_THRESHOLD);
+        this.contentCache = new NoteContentCache(this, NoteContentCache.DEFAULT_CAPACITY);
+        this.contentLoader = new ParallelContentLoader(this);
+        if (Boolean.getBoolean(PACKED_STORE_PROPERTY)) {
+            this.packedStore = new PackedNoteStore(FOLDER_DIR + PACK_FILE_PATH, FOLDER_DIR + PACK_INDEX_FILE_PATH);
+        }
+
         setupLogger();
         LOGGER.log(Level.INFO, "New storageManager object created.");
     }
@@ -141,6 +179,7 @@ public class StorageManager {
 
     /**
      * Loads the Notebook details and content for unArchived Notebooks.
+     * Each line is decoded directly into a Note. Lines that cannot be decoded are skipped.
      *
      * @param isArchive  Boolean to determine whether to load archived or non-archived files.
      */
@@ -152,102 +191,296 @@ public class StorageManager {
             path = FOLDER_DIR + NOTEBOOK_FILE_PATH;
         }
 
-        File f = new File(path);
-        Scanner s;
+        // fold the changes journaled in the previous session into the snapshot before reading it
         try {
-            s = new Scanner(f);
-        } catch (FileNotFoundException exception) {
-            throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_NOT_FOUND_ERROR);
+            getJournal(isArchive).recover();
+        } catch (IOException exception) {
+            LOGGER.log(Level.WARNING, "Unable to recover journal for: " + path, exception);
         }
+
+        ArrayList<String> lines = readLines(path);
         LOGGER.log(Level.INFO, "Found file: " + path);
-        while (s.hasNext()) {
-            String taskDetails = AddNoteCommand.COMMAND_WORD + " " +  s.nextLine()
-                                + " " + PREFIX_DELIMITER + PREFIX_ARCHIVE + " " + isArchive
-                                + " " + PREFIX_DELIMITER + PREFIX_LOAD;
-            Command command = parserManager.parseCommand(taskDetails);
-            command.setData(notebook, timetable, tagManager, this);
-            command.execute();
+
+        ArrayList<Note> loadedNotes = new ArrayList<>();
+        HashSet<String> loadedTitles = new HashSet<>();
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                Note note = RecordCodec.decodeNote(line, isArchive);
+                String title = note.getTitle();
+                if (!notebook.getNote(title) && !notebook.getArchiveNote(title)
+                        && loadedTitles.add(title.toLowerCase()) && locateNoteContent(note)) {
+                    loadedNotes.add(note);
+                } else {
+                    markDrifted(isArchive);
+                }
+            } catch (SystemException exception) {
+                LOGGER.log(Level.WARNING, "Skipped corrupted note record: " + line);
+                markDrifted(isArchive);
+            }
+        }
+
+        if (isLazyContent) {
+            for (Note note : loadedNotes) {
+                note.setContentLoader(contentCache);
+            }
+        } else {
+            contentLoader.loadContents(loadedNotes);
+        }
+
+        for (Note note : loadedNotes) {
+            tagManager.rebindTags(note);
+            notebook.addNote(note);
+
+            // the loaded details are already saved
+            notebook.clearChanged(note);
+            tagManager.clearChanged(note);
+        }
+    }
+
+    /**
+     * Checks that the content file of a decoded note exists.
+     * Notes whose content file has moved folders have their archived status changed.
+     *
+     * @param note Note decoded from the notebook file.
+     * @return false if the content file no longer exists in either folder.
+     */
+    private boolean locateNoteContent(Note note) {
+        if (packedStore != null) {
+            packNoteContentFile(note);
+        }
+
+        if (noteExists(note, note.getIsArchived())) {
+            return true;
+        } else if (noteExists(note, !note.getIsArchived())) {
+            LOGGER.log(Level.INFO, "Content file has moved folders: " + note.getTitle());
+            markDrifted(true);
+            markDrifted(false);
+            note.setArchived(!note.getIsArchived());
+            return true;
+        }
+        LOGGER.log(Level.INFO, "Content file no longer exists: " + note.getTitle());
+        return false;
+    }
+
+    private void markDrifted(boolean isArchive) {
+        if (isArchive) {
+            isArchivedNotebookDrifted = true;
+        } else {
+            isNotebookDrifted = true;
+        }
+    }
+
+    /**
+     * Rewrites the notebook detail files that were found to have drifted from the content files while loading,
+     * such as records of notes whose content file has moved folders or no longer exists.
+     * Should be called after both the notes and the archived notes are loaded. Does nothing if no drift was found.
+     *
+     * @throws IOException thrown when unable to write to the file
+     */
+    public void repairNoteDetails() throws IOException {
+        if (isNotebookDrifted) {
+            LOGGER.log(Level.INFO, "Repairing notebook details.");
+            saveAllNoteDetails(false);
+            isNotebookDrifted = false;
+        }
+        if (isArchivedNotebookDrifted) {
+            LOGGER.log(Level.INFO, "Repairing archived notebook details.");
+            saveAllNoteDetails(true);
+            isArchivedNotebookDrifted = false;
+        }
+    }
+
+    /**
+     * Moves the content file of a note saved before the pack file was used into the pack file.
+     *
+     * @param note Note decoded from the notebook file.
+     */
+    private void packNoteContentFile(Note note) {
+        try {
+            if (packedStore.contains(note.getTitle(), true) || packedStore.contains(note.getTitle(), false)) {
+                return;
+            }
+            for (boolean isArchive : new boolean[] {note.getIsArchived(), !note.getIsArchived()}) {
+                Path path = Paths.get(getNoteContentPath(note.getTitle(), isArchive));
+                if (Files.exists(path)) {
+                    packedStore.write(note.getTitle(), isArchive, readContent(path.toString()));
+                    Files.delete(path);
+                    LOGGER.log(Level.INFO, "Moved content file into pack file: " + path);
+                    return;
+                }
+            }
+        } catch (IOException | SystemException exception) {
+            LOGGER.log(Level.WARNING, "Unable to move content file into pack file: " + note.getTitle(), exception);
         }
-        s.close();
     }
 
     /**
      * Loads all the details from the the timetable stored in the text file.
+     * Each line is decoded directly into an Event. Lines that cannot be decoded are skipped.
      *
      * @throws SystemException Thrown when there is no file to read from.
      */
     public void loadTimetable() throws SystemException {
         String path = FOLDER_DIR + TIMETABLE_FILE_PATH;
-        File f = new File(path);
+        ArrayList<String> lines = readLines(path);
+        LOGGER.log(Level.INFO, "Found file: " + path);
 
-        Scanner s;
-        try {
-            s = new Scanner(f);
-        } catch (FileNotFoundException exception) {
-            throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_NOT_FOUND_ERROR);
+        // records that are skipped or corrected leave the timetable to be saved again
+        boolean isRepaired = false;
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            Event event;
+            try {
+                event = RecordCodec.decodeEvent(line);
+            } catch (SystemException exception) {
+                LOGGER.log(Level.WARNING, "Skipped corrupted event record: " + line);
+                isRepaired = true;
+                continue;
+            }
+
+            if (event.getEndDateTime().compareTo(event.getStartDateTime()) < 0) {
+                LOGGER.log(Level.WARNING, "Skipped event ending before it starts: " + line);
+                isRepaired = true;
+                continue;
+            }
+            if (!event.hasSameStartEndDateDate()) {
+                event.setEndDateTime(event.getStartDateTime().with(AddEventCommand.DEFAULT_EVENT_END_TIMING));
+                isRepaired = true;
+            }
+
+            tagManager.rebindTags(event);
+            tagManager.clearChanged(event);
+            timetable.addEvent(event);
         }
-        LOGGER.log(Level.INFO, "Found file: " + path);
-        while (s.hasNext()) {
-            String eventDetails = AddEventCommand.COMMAND_WORD + " " +  s.nextLine();
-            Command command = parserManager.parseCommand(eventDetails);
-            command.setData(notebook, timetable, tagManager, this);
-            command.execute();
+
+        if (!isRepaired) {
+            timetable.clearChanges();
         }
-        s.close();
     }
 
-    public ArrayList<String> getNoteContent(Note note, boolean isArchive) throws SystemException {
-        ArrayList<String> content = new ArrayList<>();
-        String path;
-
+    /**
+     * Returns the path of the file storing the content of a note.
+     *
+     * @param noteTitle Title of the note.
+     * @param isArchive Whether the note is archived.
+     * @return path of the content file.
+     */
+    public String getNoteContentPath(String noteTitle, boolean isArchive) {
         if (isArchive) {
-            path = FOLDER_DIR + ARCHIVED_NOTES_DIR + "/" + note.getTitle() + ".txt";
+            return FOLDER_DIR + ARCHIVED_NOTES_DIR + "/" + noteTitle + ".txt";
+        }
+        return FOLDER_DIR + NOTES_DIR + "/" + noteTitle + ".txt";
+    }
+
+    public ArrayList<String> getNoteContent(Note note, boolean isArchive) throws SystemException {
+        ArrayList<String> content;
+        if (packedStore != null) {
+            content = readPackedContent(note.getTitle(), isArchive);
         } else {
-            path = FOLDER_DIR + NOTES_DIR + "/" + note.getTitle() + ".txt";
+            content = readContent(getNoteContentPath(note.getTitle(), isArchive));
         }
 
-        File f = new File(path);
-        Scanner s;
-        try {
-            s = new Scanner(f);
-        } catch (FileNotFoundException exception) {
+        // trailing blank lines are not part of the content
+        while (!content.isEmpty() && content.get(content.size() - 1).isBlank()) {
+            content.remove(content.size() - 1);
+        }
+        return content;
+    }
+
+    /**
+     * Returns the first line of the content of a note without reading the rest of the content
+     * when each note has its own content file.
+     *
+     * @param noteTitle Title of the note.
+     * @param isArchive Whether the note is archived.
+     * @return first line of the content, or an empty string if the content is empty.
+     * @throws SystemException when the content of the note cannot be found.
+     */
+    public String getNoteContentPreview(String noteTitle, boolean isArchive) throws SystemException {
+        if (packedStore != null) {
+            ArrayList<String> content = readPackedContent(noteTitle, isArchive);
+            return content.isEmpty() ? "" : content.get(0);
+        }
+
+        Path path = Paths.get(getNoteContentPath(noteTitle, isArchive));
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            return (line == null) ? "" : line;
+        } catch (IOException exception) {
             throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_NOT_FOUND_ERROR);
         }
+    }
+
+    private ArrayList<String> readContent(String path) throws SystemException {
+        ArrayList<String> content = readLines(path);
         LOGGER.log(Level.INFO, "Found file: " + path);
-        while (s.hasNext()) {
-            content.add(s.nextLine());
+        return content;
+    }
+
+    private ArrayList<String> readPackedContent(String noteTitle, boolean isArchive) throws SystemException {
+        ArrayList<String> content;
+        try {
+            content = packedStore.read(noteTitle, isArchive);
+        } catch (IOException exception) {
+            LOGGER.log(Level.WARNING, "Unable to read packed content of: " + noteTitle, exception);
+            throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_NOT_FOUND_ERROR);
+        }
+
+        if (content == null) {
+            LOGGER.log(Level.INFO, "Unable to find packed content of: " + noteTitle);
+            throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_NOT_FOUND_ERROR);
         }
-        s.close();
         return content;
     }
 
+    /**
+     * Reads all the lines of a storage file.
+     *
+     * @param path Path of the file to be read.
+     * @return lines of the file.
+     * @throws SystemException when the file does not exist or cannot be read.
+     */
+    private static ArrayList<String> readLines(String path) throws SystemException {
+        try {
+            return LineReader.readLines(path);
+        } catch (IOException exception) {
+            throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_NOT_FOUND_ERROR);
+        }
+    }
+
     /* Saving and deleting notes */
 
     /**
      * Clears the content in the original file storing all the note details.
-     * Replaces it with the new note content details.
+     * Replaces it with the new note content details and discards the journal of that notebook.
      *
      * @param isArchive determines whether to save archived notes or normal notes
      * @throws IOException thrown when unable to write to the file
      */
     public void saveAllNoteDetails(Boolean isArchive) throws IOException {
-        String path;
-
         ArrayList<Note> notes;
 
         if (isArchive) {
             notes = notebook.getArchivedNotes();
-            path = FOLDER_DIR + ARCHIVED_NOTEBOOK_FILE_PATH;
         } else {
             notes = notebook.getNotes();
-            path = FOLDER_DIR + NOTEBOOK_FILE_PATH;
         }
-        FileWriter fw = new FileWriter(path, false);
-        fw.write("");
-        fw.close();
 
+        ArrayList<String> noteDetails = new ArrayList<>();
         for (Note note: notes) {
-            saveNoteDetails(note, isArchive);
+            noteDetails.add(note.toSaveString());
+        }
+        getJournal(isArchive).rewrite(noteDetails);
+
+        for (Note note: notes) {
+            clearChanged(note);
         }
     }
 
@@ -264,47 +497,75 @@ public class StorageManager {
      * @param note The note to be saved
      */
     public void saveNoteContent(Note note, boolean isArchive) throws IOException {
-        String path;
-
-        if (isArchive) {
-            path = FOLDER_DIR + ARCHIVED_NOTES_DIR + "/" + note.getTitle() + ".txt";
-        } else {
-            path = FOLDER_DIR + NOTES_DIR + "/" + note.getTitle() + ".txt";
+        if (packedStore != null) {
+            packedStore.write(note.getTitle(), isArchive, note.getContent());
+            return;
         }
 
+        String path = getNoteContentPath(note.getTitle(), isArchive);
+
         createFile(path);
-        FileWriter fw = new FileWriter(path);
-        fw.write(note.getContentString());
-        fw.close();
+        try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(path), StandardCharsets.UTF_8)) {
+            writer.write(note.getContentString());
+        }
     }
 
     /**
-     * Saves the details of notes such as title, tags and pinned status to the notebook text file.
+     * Saves the details of notes such as title, tags and pinned status by appending a single record
+     * to the journal of the notebook. Replaces any details previously saved for a note with the same title.
+     *
      * @param note Note of which details are to be saved to the file
      */
     public void saveNoteDetails(Note note, boolean isArchive) throws IOException {
-        String path;
+        getJournal(isArchive).put(note.toSaveString());
+        clearChanged(note);
+    }
 
-        if (isArchive) {
-            path = FOLDER_DIR + ARCHIVED_NOTEBOOK_FILE_PATH;
-        } else {
-            path = FOLDER_DIR + NOTEBOOK_FILE_PATH;
+    /**
+     * Marks the details of a note as saved in the notebook and the tag manager.
+     */
+    private void clearChanged(Note note) {
+        if (notebook != null) {
+            notebook.clearChanged(note);
+        }
+        if (tagManager != null) {
+            tagManager.clearChanged(note);
         }
+    }
 
-        FileWriter fwAppend = new FileWriter(path, true);
-        fwAppend.write(note.toSaveString());
-        fwAppend.close();
+    /**
+     * Saves the details of a note that has been renamed by appending a single record to the journal of the notebook.
+     * Replaces the details previously saved under the old title while keeping the position of the note.
+     *
+     * @param oldTitle Title the details of the note were saved under
+     * @param note Note of which details are to be saved to the file
+     */
+    public void renameNoteDetails(String oldTitle, Note note, boolean isArchive) throws IOException {
+        getJournal(isArchive).rename(oldTitle, note.toSaveString());
+        clearChanged(note);
     }
 
-    public void deleteNoteContentFile(String noteTitle, boolean isArchive) throws SystemException {
-        String path;
+    /**
+     * Removes the saved details of a note by appending a single record to the journal of the notebook.
+     *
+     * @param noteTitle Title of the note whose details are to be removed
+     */
+    public void deleteNoteDetails(String noteTitle, boolean isArchive) throws IOException {
+        getJournal(isArchive).delete(noteTitle);
+    }
 
-        if (isArchive) {
-            path = FOLDER_DIR + ARCHIVED_NOTES_DIR + "/" + noteTitle + ".txt";
-        } else {
-            path = FOLDER_DIR + NOTES_DIR + "/" + noteTitle + ".txt";
+    private NoteJournal getJournal(boolean isArchive) {
+        return isArchive ? archivedNotebookJournal : notebookJournal;
+    }
+
+    public void deleteNoteContentFile(String noteTitle, boolean isArchive) throws SystemException {
+        if (packedStore != null) {
+            deletePackedContent(noteTitle, isArchive);
+            return;
         }
 
+        String path = getNoteContentPath(noteTitle, isArchive);
+
         File file = new File(path);
 
         if (file.exists()) {
@@ -318,6 +579,96 @@ public class StorageManager {
         }
     }
 
+    private void deletePackedContent(String noteTitle, boolean isArchive) throws SystemException {
+        try {
+            if (!packedStore.contains(noteTitle, isArchive)) {
+                LOGGER.log(Level.INFO, "Unable to find packed content of: " + noteTitle);
+                throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_NOT_FOUND_ERROR);
+            }
+            packedStore.delete(noteTitle);
+        } catch (IOException exception) {
+            LOGGER.log(Level.WARNING, "Unable to delete packed content of: " + noteTitle, exception);
+            throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_DELETION_ERROR);
+        }
+    }
+
+    /**
+     * Moves the file storing the content of a note between the notes and archived notes folders.
+     * When the contents are packed into a single file, only the archived status in its index is changed.
+     *
+     * @param noteTitle Title of the note whose content file is to be moved.
+     * @param isArchive Whether the content file is currently in the archived notes folder.
+     * @throws SystemException when the content file does not exist or cannot be moved.
+     */
+    public void moveNoteContentFile(String noteTitle, boolean isArchive) throws SystemException {
+        if (packedStore != null) {
+            try {
+                if (!packedStore.contains(noteTitle, isArchive)) {
+                    LOGGER.log(Level.INFO, "Unable to find packed content of: " + noteTitle);
+                    throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_NOT_FOUND_ERROR);
+                }
+                packedStore.setArchived(noteTitle, !isArchive);
+            } catch (IOException exception) {
+                LOGGER.log(Level.WARNING, "Unable to move packed content of: " + noteTitle, exception);
+                throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_CREATION_ERROR);
+            }
+            return;
+        }
+
+        Path source = Paths.get(getNoteContentPath(noteTitle, isArchive));
+        Path target = Paths.get(getNoteContentPath(noteTitle, !isArchive));
+
+        if (!Files.exists(source)) {
+            LOGGER.log(Level.INFO, "Unable to find file: " + source);
+            throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_NOT_FOUND_ERROR);
+        }
+
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException exception) {
+            LOGGER.log(Level.WARNING, "Unable to move file: " + source, exception);
+            throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_CREATION_ERROR);
+        }
+    }
+
+    /**
+     * Changes the title the content of a note is stored under without rewriting the content.
+     *
+     * @param oldTitle Current title of the note.
+     * @param newTitle New title of the note.
+     * @param isArchive Whether the note is archived.
+     * @throws SystemException when the content of the note does not exist or cannot be moved.
+     */
+    public void renameNoteContent(String oldTitle, String newTitle, boolean isArchive) throws SystemException {
+        if (packedStore != null) {
+            try {
+                if (!packedStore.contains(oldTitle, isArchive)) {
+                    LOGGER.log(Level.INFO, "Unable to find packed content of: " + oldTitle);
+                    throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_NOT_FOUND_ERROR);
+                }
+                packedStore.rename(oldTitle, newTitle);
+            } catch (IOException exception) {
+                LOGGER.log(Level.WARNING, "Unable to rename packed content of: " + oldTitle, exception);
+                throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_CREATION_ERROR);
+            }
+            return;
+        }
+
+        Path source = Paths.get(getNoteContentPath(oldTitle, isArchive));
+        Path target = Paths.get(getNoteContentPath(newTitle, isArchive));
+        if (!Files.exists(source)) {
+            LOGGER.log(Level.INFO, "Unable to find file: " + source);
+            throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_NOT_FOUND_ERROR);
+        }
+
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException exception) {
+            LOGGER.log(Level.WARNING, "Unable to move file: " + source, exception);
+            throw new SystemException(SystemException.ExceptionType.EXCEPTION_FILE_CREATION_ERROR);
+        }
+    }
+
     /**
      * Returns a boolean of whether the file storing the content of the note already exists.
      *
@@ -325,14 +676,17 @@ public class StorageManager {
      * @return boolean
      */
     public boolean noteExists(Note note, boolean isArchive) {
-        String path;
-
-        if (isArchive) {
-            path = FOLDER_DIR + ARCHIVED_NOTES_DIR + "/" + note.getTitle() + ".txt";
-        } else {
-            path = FOLDER_DIR + NOTES_DIR + "/" + note.getTitle() + ".txt";
+        if (packedStore != null) {
+            try {
+                return packedStore.contains(note.getTitle(), isArchive);
+            } catch (IOException exception) {
+                LOGGER.log(Level.WARNING, "Unable to open pack file.", exception);
+                return false;
+            }
         }
 
+        String path = getNoteContentPath(note.getTitle(), isArchive);
+
         File file = new File(path);
         if (!file.exists()) {
             return false;
@@ -344,73 +698,84 @@ public class StorageManager {
 
     /**
      * Saves all the Events in the Timetable to the storage file.
-     *
+     * The events are streamed to a temporary file which then replaces the storage file.
      */
     public void saveTimetable() throws IOException {
         String path = FOLDER_DIR + TIMETABLE_FILE_PATH;
 
-        //clear file
-        FileWriter fwClear = new FileWriter(path, false);
-        fwClear.write("");
-        fwClear.close();
-
-        //rewrite information to the file
-        FileWriter fwAppend = new FileWriter(path, true);
-
-        ArrayList<Event> allEvents = timetable.getEvents();
-        String eventDetails;
+        try (SnapshotWriter writer = new SnapshotWriter(path)) {
+            for (Event event: timetable.getEvents()) {
+                writer.writeLine(RecordCodec.encodeEvent(event));
+            }
+            writer.commit();
+        }
 
-        for (Event event: allEvents) {
-            eventDetails = getEventDetailsSaveFormat(event);
-            fwAppend.write(eventDetails);
+        timetable.clearChanges();
+        if (tagManager != null) {
+            for (TaggableObject taggableObject : tagManager.getChangedObjects()) {
+                if (taggableObject instanceof Event) {
+                    tagManager.clearChanged(taggableObject);
+                }
+            }
         }
-        fwAppend.close();
     }
 
-    private static String getEventDetailsSaveFormat(Event event) {
-        String eventDetails;
-        String tagDetails = "";
-
-        for (Tag tag: event.getTags()) {
-            tagDetails += PREFIX_DELIMITER + PREFIX_TAG + " " + tag.toSaveString() + " ";
+    /**
+     * Saves all the information that has been changed since it was last saved.
+     * The timetable is only rewritten if any of its events changed, and only the details of changed notes
+     * are appended to the journals of the notebooks.
+     *
+     * @throws IOException if unable to save to the file.
+     */
+    public void saveAll() throws IOException {
+        if (tagManager != null) {
+            for (TaggableObject taggableObject : tagManager.getChangedObjects()) {
+                if (taggableObject instanceof Note && notebook != null) {
+                    notebook.markChanged((Note) taggableObject);
+                } else if (taggableObject instanceof Event && timetable != null) {
+                    timetable.markChanged((Event) taggableObject);
+                }
+            }
         }
 
-        eventDetails = PREFIX_DELIMITER + PrefixSyntax.PREFIX_TITLE + " " + event.getTitle() + " "
-                + PREFIX_DELIMITER + PrefixSyntax.PREFIX_TIMING + " "
-                + event.getStartDateTimeString() + " "
-                + PREFIX_DELIMITER + PrefixSyntax.PREFIX_END_TIMING + " "
-                + event.getEndDateTimeString() + " "
-                + tagDetails + " ";
-
-        ArrayList<String> reminderPeriods = event.getReminderPeriodsString();
+        if (timetable != null && timetable.hasChanges()) {
+            saveTimetable();
+        }
 
-        if (!reminderPeriods.isEmpty()) {
-            eventDetails += PREFIX_DELIMITER + PrefixSyntax.PREFIX_REMIND + " ";
-            for (String reminderPeriod : reminderPeriods) {
-                eventDetails += reminderPeriod + " ";
+        if (notebook != null) {
+            for (Note note : notebook.getChangedNotes()) {
+                // notes that have since been deleted are not saved again
+                if (notebook.findNote(note.getTitle(), note.getIsArchived()) == note) {
+                    saveNoteDetails(note, note.getIsArchived());
+                }
             }
+            notebook.clearChanges();
         }
-
-        if (event instanceof RecurringEvent) {
-            RecurringEvent recEvent = (RecurringEvent) event;
-            eventDetails += PREFIX_DELIMITER + PrefixSyntax.PREFIX_RECURRING
-                    + " " + recEvent.getRecurrenceType() + " ";
-            eventDetails += PREFIX_DELIMITER + PrefixSyntax.PREFIX_STOP_RECURRING
-                    + " " + recEvent.getEndRecurrenceDateTime();
+        if (tagManager != null) {
+            tagManager.clearChanges();
         }
-        return eventDetails + LS;
     }
 
     /**
-     * Saves all the information that has been changed.
-     * Information includes: note details and event/timetable information.
-     *
-     * @throws IOException if unable to save to the file.
+     * Waits for any pending journal compaction, stops the compaction thread and closes the pack file.
      */
-    public void saveAll() throws IOException {
-        saveTimetable();
-        saveAllNoteDetails(false);
-        saveAllNoteDetails(true);
+    public void shutdown() {
+        notebookJournal.awaitCompaction();
+        archivedNotebookJournal.awaitCompaction();
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (packedStore != null) {
+            try {
+                packedStore.close();
+            } catch (IOException exception) {
+                LOGGER.log(Level.WARNING, "Unable to close pack file.", exception);
+            }
+        }
     }
 
     private void setupLogger() {
@@ -2,13 +2,14 @@ package seedu.notus.ui;
 
 import seedu.notus.data.notebook.Note;
 import seedu.notus.data.notebook.Notebook;
+import seedu.notus.data.timetable.EventCalendar;
 import seedu.notus.data.timetable.RecurringEvent;
 import seedu.notus.data.timetable.Reminder;
 import seedu.notus.data.timetable.Event;
 
-import java.time.Month;
+import java.time.YearMonth;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Stack;
 
 import static com.diogonunes.jcolor.Ansi.POSTFIX;
@@ -97,10 +98,10 @@ public class Formatter {
 
             formattedString = formattedString.concat(encloseRow(colorIndex)).concat(encloseRow(colorTitle));
 
-            int truncatedContentLength = Math.min(note.getContent().get(0).length(), CONTENT_CUTOFF);
+            String contentPreview = note.getContentPreview();
+            int truncatedContentLength = Math.min(contentPreview.length(), CONTENT_CUTOFF);
 
-            String truncatedContent = note.getContent()
-                    .get(0)
+            String truncatedContent = contentPreview
                     .substring(0, truncatedContentLength)
                     .concat(CONTINUATION);
             formattedString = formattedString.concat(encloseRow(CONTENT + truncatedContent))
@@ -128,18 +129,13 @@ public class Formatter {
     }
 
 
-    public static ArrayList<String> formatMonthTimetable(String month, HashMap<Integer, ArrayList<Event>> timetable) {
+    public static ArrayList<String> formatMonthTimetable(String month, List<Event> monthEvents) {
         ArrayList<String> results = new ArrayList<>();
         results.add(month);
-        ArrayList<Integer> days = new ArrayList<>(timetable.keySet());
-        days.sort(Integer::compareTo);
-        for (Integer day : days) {
-            ArrayList<Event> dailyEvents = timetable.get(day);
-            for (Event event : dailyEvents) {
-                ArrayList<String> tempResults = formatEvent(event);
-                results.addAll(tempResults);
-                results.add(" ");
-            }
+        for (Event event : monthEvents) {
+            ArrayList<String> tempResults = formatEvent(event);
+            results.addAll(tempResults);
+            results.add(" ");
         }
         results.remove(results.size() - 1);
         return results;
@@ -155,21 +151,19 @@ public class Formatter {
      * @return Formatted string of non-indexed events in timetable
      */
     public static String formatTimetable(String header, int year, int month,
-                                         HashMap<Month, HashMap<Integer, ArrayList<Event>>> timetable) {
+                                         EventCalendar timetable) {
         ArrayList<String> eventsStrings = new ArrayList<>();
 
         if (month != 0) {
             eventsStrings.add(header + String.format(" %d-%d", year, month));
-            Month currMonth = Month.of(month);
-            HashMap<Integer, ArrayList<Event>> monthEvents = timetable.get(currMonth);
-            assert monthEvents != null;
-            eventsStrings.addAll(formatMonthTimetable(currMonth.name(), monthEvents));
+            YearMonth currMonth = YearMonth.of(year, month);
+            List<Event> monthEvents = timetable.getEvents(currMonth);
+            assert !monthEvents.isEmpty();
+            eventsStrings.addAll(formatMonthTimetable(currMonth.getMonth().name(), monthEvents));
         } else {
             eventsStrings.add(header + " " + year);
-            ArrayList<Month> months = new ArrayList<>(timetable.keySet());
-            months.sort(Month::compareTo);
-            for (Month currMonth : months) {
-                eventsStrings.addAll(formatMonthTimetable(currMonth.name(), timetable.get(currMonth)));
+            for (YearMonth currMonth : timetable.getMonths()) {
+                eventsStrings.addAll(formatMonthTimetable(currMonth.getMonth().name(), timetable.getEvents(currMonth)));
                 eventsStrings.add(EMPTY_SPACE);
             }
             eventsStrings.remove(eventsStrings.size() - 1);
@@ -32,11 +32,11 @@ public class InterfaceManager {
     }
 
     /**
-     * Prints a message with a default format.
+     * Prints a message with a default format. May be called from a background thread.
      *
      * @param message Message to be printed out.
      */
-    public void prints(String message) {
+    public synchronized void prints(String message) {
         out.println(message);
     }
 }
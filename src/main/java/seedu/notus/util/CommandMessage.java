@@ -17,6 +17,7 @@ import seedu.notus.command.ListNoteCommand;
 import seedu.notus.command.ListTagCommand;
 import seedu.notus.command.PinCommand;
 import seedu.notus.command.RemindCommand;
+import seedu.notus.command.StatsTagCommand;
 import seedu.notus.command.TagEventCommand;
 import seedu.notus.command.TagNoteCommand;
 import seedu.notus.command.UnarchiveNoteCommand;
@@ -41,6 +42,7 @@ import static seedu.notus.util.PrefixSyntax.PREFIX_REMIND_DROP;
 import static seedu.notus.util.PrefixSyntax.PREFIX_STOP_RECURRING;
 import static seedu.notus.util.PrefixSyntax.PREFIX_TAG;
 import static seedu.notus.util.PrefixSyntax.PREFIX_TIMING;
+import static seedu.notus.util.PrefixSyntax.PREFIX_TOP;
 import static seedu.notus.util.PrefixSyntax.PREFIX_TITLE;
 
 /**
@@ -121,7 +123,8 @@ public class CommandMessage {
     public static final String EXIT_COMMAND_USAGE = ExitCommand.COMMAND_WORD
             + ": Exits the program.";
     public static final String FIND_N_COMMAND_USAGE = FindCommand.COMMAND_WORD
-            + ": Finds a note. Parameters: KEYWORDS";
+            + ": Finds the notes containing all the keywords in their title or content. "
+            + "Parameters: KEYWORDS [OR KEYWORDS...]";
     public static final String LIST_E_COMMAND_USAGE = ListEventCommand.COMMAND_WORD
             + ": List all the events in the Timetable. Parameters: "
             + "[" + PREFIX_DELIMITER + PREFIX_TIMING + " YYYY or YYYY-MM]";
@@ -129,7 +132,8 @@ public class CommandMessage {
             + ": Lists all the notes in the Notebook. Parameters: "
             + "[" + PREFIX_DELIMITER + PREFIX_TAG + " TAG "
             + PREFIX_DELIMITER + PREFIX_TAG + " TAG1...] "
-            + "[/sort up OR down]";
+            + "[/sort up OR down] (TAG can combine tags with AND, OR, NOT and brackets, "
+            + "and quote tag names such as \"or\")";
     public static final String LIST_T_COMMAND_USAGE = ListTagCommand.COMMAND_WORD
             + ": Lists all the tags.";
     public static final String PIN_N_COMMAND_USAGE = PinCommand.COMMAND_WORD
@@ -138,6 +142,9 @@ public class CommandMessage {
             + "[" + PREFIX_DELIMITER + PREFIX_TITLE + " TITLE]";
     public static final String REMIND_E_COMMAND_USAGE = RemindCommand.COMMAND_WORD
             + ": Shows the reminders for today.";
+    public static final String STATS_T_COMMAND_USAGE = StatsTagCommand.COMMAND_WORD
+            + ": Shows the most used tags and the unused tags. Parameters: "
+            + "[" + PREFIX_DELIMITER + PREFIX_TOP + " NUMBER_OF_TAGS]";
     public static final String TAG_E_COMMAND_USAGE = TagEventCommand.COMMAND_WORD
             + ": Tags or untags an event. Parameters: "
             + PREFIX_DELIMITER + PREFIX_INDEX + " INDEX "
@@ -174,10 +181,11 @@ public class CommandMessage {
             colorize(LIST_T_COMMAND_USAGE, CYAN),
             colorize(PIN_N_COMMAND_USAGE, WHITE),
             colorize(REMIND_E_COMMAND_USAGE, CYAN),
-            colorize(TAG_E_COMMAND_USAGE, WHITE),
-            colorize(TAG_N_COMMAND_USAGE, CYAN),
-            colorize(UNARCHIVE_N_COMMAND_USAGE, WHITE),
-            colorize(VIEW_N_COMMAND_USAGE, CYAN)
+            colorize(STATS_T_COMMAND_USAGE, WHITE),
+            colorize(TAG_E_COMMAND_USAGE, CYAN),
+            colorize(TAG_N_COMMAND_USAGE, WHITE),
+            colorize(UNARCHIVE_N_COMMAND_USAGE, CYAN),
+            colorize(VIEW_N_COMMAND_USAGE, WHITE)
     };
 
     /** General successful messages. */
@@ -288,6 +296,8 @@ public class CommandMessage {
     public static final String TAG_MESSAGE = colorize("Added the tag! ", GREEN);
     public static final String UNTAG_MESSAGE = colorize("Removed the tag! ", GREEN);
     public static final String LIST_TAG_MESSAGE = colorize("Here are the list of tags!", GREEN);
+    public static final String TOP_TAG_MESSAGE = colorize("Here are the most used tags!", GREEN);
+    public static final String UNUSED_TAG_MESSAGE = colorize("These tags are not used by any note or event:", GREEN);
 
     public static final String CREATE_TAG_UNSUCCESSFUL_MESSAGE = colorize("Tag already exists! ", RED);
     public static final String DELETE_TAG_UNSUCCESSFUL_MESSAGE = colorize("The tag does not exist! ", RED);
@@ -19,6 +19,7 @@ public class PrefixSyntax {
     public static final String PREFIX_LINE = "ln";
     public static final String PREFIX_SORT = "sort";
     public static final String PREFIX_ARCHIVE = "archive";
+    public static final String PREFIX_TOP = "top";
 
     /** Event related prefix. */
     public static final String PREFIX_TIMING = "timing";
@@ -6,6 +6,7 @@ import seedu.notus.command.Command;
 import seedu.notus.command.ListNoteCommand;
 import seedu.notus.data.exception.SystemException;
 import seedu.notus.data.exception.SystemException.ExceptionType;
+import seedu.notus.data.tag.TagExpression;
 
 import java.util.ArrayList;
 
@@ -29,6 +30,7 @@ public class ParseListNoteCommand extends Parser {
      * ListNoteCommand is overloaded, so depending on the user input i.e
      * list-n /tag TAG up/down
      * tags and up/down are optional parameters for users to input
+     * each tag can be an expression of tag names combined with AND, OR, NOT and brackets
      * up/down is to sort the list alphabetically either A-Z or Z-A
      *
      * @return Returns a ListNoteCommand to be executed by NotUS.
@@ -59,6 +61,8 @@ public class ParseListNoteCommand extends Parser {
                     isTag = true;
                     exception = ExceptionType.EXCEPTION_MISSING_TAG;
                     tagName = checkBlank(infoDetails[1], exception);
+                    // Checks that the tag expression is well-formed before listing
+                    TagExpression.parse(tagName);
                     tagsName.add(tagName);
                     break;
                 case PREFIX_SORT:
@@ -0,0 +1,56 @@
+package seedu.notus.util.parser;
+
+import seedu.notus.command.Command;
+import seedu.notus.command.StatsTagCommand;
+import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.exception.SystemException.ExceptionType;
+
+import java.util.ArrayList;
+
+import static seedu.notus.util.PrefixSyntax.PREFIX_TOP;
+
+/**
+ * Represents a parser object specifically to parse message for StatsTagCommand.
+ */
+public class ParseStatsTagCommand extends Parser {
+
+    public ParseStatsTagCommand(String userMessage) {
+        super(userMessage);
+    }
+
+    /**
+     * Returns a StatsTagCommand that shows the default number of the most used tags, or the number given with the
+     * top prefix.
+     *
+     * @return Returns a StatsTagCommand to be executed by NotUS.
+     * @throws SystemException if an error occurs.
+     */
+    @Override
+    public Command parse() throws SystemException {
+        if (userMessage == null) {
+            return new StatsTagCommand();
+        }
+
+        int topCount = StatsTagCommand.DEFAULT_TOP_COUNT;
+        try {
+            ArrayList<String[]> splitInfo = splitInfoDetails(userMessage);
+
+            for (String[] infoDetails : splitInfo) {
+                String prefix = infoDetails[0].toLowerCase();
+
+                if (!prefix.equals(PREFIX_TOP)) {
+                    throw new SystemException(ExceptionType.EXCEPTION_INVALID_PREFIX);
+                }
+                topCount = Integer.parseInt(checkBlank(infoDetails[1], ExceptionType.EXCEPTION_MISSING_TOP));
+                if (topCount <= 0) {
+                    throw new SystemException(ExceptionType.EXCEPTION_INVALID_TOP);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException exception) {
+            throw new SystemException(ExceptionType.EXCEPTION_MISSING_TOP);
+        } catch (NumberFormatException exception) {
+            throw new SystemException(ExceptionType.EXCEPTION_INVALID_TOP);
+        }
+        return new StatsTagCommand(topCount);
+    }
+}
@@ -19,6 +19,7 @@ import seedu.notus.command.ListEventCommand;
 import seedu.notus.command.ListTagCommand;
 import seedu.notus.command.PinCommand;
 import seedu.notus.command.RemindCommand;
+import seedu.notus.command.StatsTagCommand;
 import seedu.notus.command.TagEventCommand;
 import seedu.notus.command.TagNoteCommand;
 import seedu.notus.command.UnarchiveNoteCommand;
@@ -82,6 +83,8 @@ public class ParserManager {
                 return new ParseCreateOrDeleteTagCommand(userMessage, false).parse();
             case ListTagCommand.COMMAND_WORD:
                 return new ListTagCommand();
+            case StatsTagCommand.COMMAND_WORD:
+                return new ParseStatsTagCommand(userMessage).parse();
             case TagNoteCommand.COMMAND_WORD:
                 return new ParseTagCommand(userMessage, true).parse();
             case TagEventCommand.COMMAND_WORD:
@@ -1,5 +1,44 @@
 package seedu.notus.command;
 
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.Notebook;
+import seedu.notus.data.tag.TagManager;
+import seedu.notus.ui.Formatter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.notus.util.CommandMessage.INVALID_LINE_UNSUCCESSFUL_MESSAGE;
+
 class EditNoteCommandTest {
 
-}
\ No newline at end of file
+    @Test
+    void execute_newTitleAndInvalidLine_noteUnchanged() {
+        ArrayList<String> content = new ArrayList<>();
+        content.add("first line");
+        content.add("second line");
+        Note note = new Note("CS2113", content, false, false);
+        Notebook notebook = new Notebook();
+        notebook.addNote(note);
+
+        Map<Integer, String> addLists = new HashMap<>();
+        addLists.put(0, "new first line");
+        Map<Integer, String> editLists = new HashMap<>();
+        editLists.put(5, "line out of range");
+        EditNoteCommand editNoteCommand = new EditNoteCommand(0, new Note("CS2101", new ArrayList<>(), false, false),
+                addLists, editLists, new HashMap<>(), false);
+        editNoteCommand.setData(notebook, null, new TagManager(), null);
+
+        assertEquals(Formatter.formatString(INVALID_LINE_UNSUCCESSFUL_MESSAGE), editNoteCommand.execute());
+        assertEquals("CS2113", note.getTitle());
+        assertTrue(notebook.getNote("CS2113"));
+        assertFalse(notebook.getNote("CS2101"));
+        assertEquals(2, note.getContent().size());
+        assertEquals("first line", note.getContent().get(0));
+    }
+}
@@ -26,6 +26,7 @@ import static seedu.notus.util.CommandMessage.LIST_N_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.LIST_T_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.PIN_N_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.REMIND_E_COMMAND_USAGE;
+import static seedu.notus.util.CommandMessage.STATS_T_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.TAG_E_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.TAG_N_COMMAND_USAGE;
 import static seedu.notus.util.CommandMessage.UNARCHIVE_N_COMMAND_USAGE;
@@ -55,10 +56,11 @@ class HelpCommandTest {
             colorize(LIST_T_COMMAND_USAGE, CYAN),
             colorize(PIN_N_COMMAND_USAGE, WHITE),
             colorize(REMIND_E_COMMAND_USAGE, CYAN),
-            colorize(TAG_E_COMMAND_USAGE, WHITE),
-            colorize(TAG_N_COMMAND_USAGE, CYAN),
-            colorize(UNARCHIVE_N_COMMAND_USAGE, WHITE),
-            colorize(VIEW_N_COMMAND_USAGE, CYAN)
+            colorize(STATS_T_COMMAND_USAGE, WHITE),
+            colorize(TAG_E_COMMAND_USAGE, CYAN),
+            colorize(TAG_N_COMMAND_USAGE, WHITE),
+            colorize(UNARCHIVE_N_COMMAND_USAGE, CYAN),
+            colorize(VIEW_N_COMMAND_USAGE, WHITE)
     };
 
     @Test
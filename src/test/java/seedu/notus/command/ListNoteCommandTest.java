@@ -334,6 +334,89 @@ class ListNoteCommandTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void execute_TagExpression_NotesMatchingExpression() {
+        notebook.addNote(testNote1);
+        notebook.addNote(songLyrics);
+        notebook.addNote(defaultNote);
+
+        tagManager.createTag(tagCs2113, false);
+        tagManager.createTag(tagNus, false);
+        ArrayList<String> tags = new ArrayList<>();
+        tags.add("NUS AND NOT CEG");
+        tagManager.tagObject(songLyrics, tagCs2113);
+        tagManager.tagObject(songLyrics, tagNus);
+        tagManager.tagObject(testNote1, tagNus);
+        notebook.togglePinned(testNote1);
+
+        unpinnedNotes.add(testNote1);
+
+        String expected = Formatter.formatNotes(LIST_NOTES_MESSAGE, unpinnedNotes, notebook);
+
+        String actual = getCommandExecutionString(notebook, tags);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void execute_MultipleTags_NotesInTagOrder() {
+        notebook.addNote(defaultNote);
+        notebook.addNote(songLyrics);
+
+        tagManager.createTag(tagCs2113, false);
+        tagManager.createTag(tagNus, false);
+        ArrayList<String> tags = new ArrayList<>();
+        tags.add("NUS");
+        tags.add("CEG");
+        tagManager.tagObject(songLyrics, tagNus);
+        tagManager.tagObject(defaultNote, tagCs2113);
+        tagManager.tagObject(songLyrics, tagCs2113);
+
+        noteArrayList.add(songLyrics);
+        noteArrayList.add(defaultNote);
+
+        String expected = Formatter.formatNotes(LIST_NOTES_MESSAGE, noteArrayList, notebook);
+
+        String actual = getCommandExecutionString(notebook, tags);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void execute_MultipleTagsWithPinnedNotes_PinnedNotesSplitInTagOrder() {
+        notebook.addNote(defaultNote);
+        notebook.addNote(testNote1);
+        notebook.addNote(cs2113);
+        notebook.addNote(songLyrics);
+
+        tagManager.createTag(tagCs2113, false);
+        tagManager.createTag(tagNus, false);
+        ArrayList<String> tags = new ArrayList<>();
+        tags.add("NUS");
+        tags.add("CEG");
+        tagManager.tagObject(songLyrics, tagNus);
+        tagManager.tagObject(cs2113, tagNus);
+        tagManager.tagObject(defaultNote, tagCs2113);
+        tagManager.tagObject(testNote1, tagCs2113);
+
+        pinNotes.add(cs2113);
+        pinNotes.add(testNote1);
+        unpinnedNotes.add(songLyrics);
+        unpinnedNotes.add(defaultNote);
+
+        String expected = Formatter.formatNotes(PINNED_NOTES_MESSAGE, UNPINNED_NOTES_MESSAGE, pinNotes,
+                unpinnedNotes, notebook);
+        assertEquals(expected, getCommandExecutionString(notebook, tags));
+
+        notebook.togglePinned(cs2113);
+        pinNotes.remove(cs2113);
+        unpinnedNotes.add(1, cs2113);
+
+        expected = Formatter.formatNotes(PINNED_NOTES_MESSAGE, UNPINNED_NOTES_MESSAGE, pinNotes,
+                unpinnedNotes, notebook);
+        assertEquals(expected, getCommandExecutionString(notebook, tags));
+    }
+
     @Test
     void execute_ArchivedNotes_ArchiveList() {
         int index = 2;
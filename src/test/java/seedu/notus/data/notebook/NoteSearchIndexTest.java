@@ -0,0 +1,56 @@
+package seedu.notus.data.notebook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NoteSearchIndexTest {
+
+    private NoteSearchIndex searchIndex;
+    private Note lectureNote;
+    private Note tutorialNote;
+
+    @BeforeEach
+    public void setUp() {
+        ArrayList<String> lectureContent = new ArrayList<>();
+        lectureContent.add("Inheritance and polymorphism");
+        lectureContent.add("Polymorphism with interfaces");
+        ArrayList<String> tutorialContent = new ArrayList<>();
+        tutorialContent.add("Exercises on inheritance");
+
+        lectureNote = new Note("CS2113 Lecture", lectureContent, false, false);
+        tutorialNote = new Note("CS2113 Tutorial", tutorialContent, false, false);
+
+        searchIndex = new NoteSearchIndex();
+        searchIndex.addNote(lectureNote);
+        searchIndex.addNote(tutorialNote);
+    }
+
+    @Test
+    void search_keywordsInTitleAndContent_occurrencesCounted() {
+        HashMap<Integer, Integer> scores = searchIndex.search("MORPH");
+        assertEquals(1, scores.size());
+        assertEquals(2, (int) scores.get(lectureNote.getId()));
+
+        scores = searchIndex.search("cs2113 inherit");
+        assertEquals(2, (int) scores.get(lectureNote.getId()));
+        assertEquals(2, (int) scores.get(tutorialNote.getId()));
+    }
+
+    @Test
+    void search_andOrQueries_matchingNotesFound() {
+        assertEquals(1, searchIndex.search("inheritance AND exercises").size());
+        assertTrue(searchIndex.search("exercises interfaces").isEmpty());
+        assertEquals(2, searchIndex.search("exercises OR interfaces").size());
+        assertTrue(searchIndex.search("OR AND").isEmpty());
+
+        searchIndex.removeNote(tutorialNote);
+        assertFalse(searchIndex.search("exercises OR interfaces").containsKey(tutorialNote.getId()));
+    }
+}
@@ -1,5 +1,99 @@
 package seedu.notus.data.notebook;
 
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 class NoteTest {
 
-}
\ No newline at end of file
+    /** Counts the number of times the content of a note is loaded. */
+    private static class CountingLoader implements NoteContentLoader {
+        private int loadCount = 0;
+
+        @Override
+        public ArrayList<String> loadContent(Note note) {
+            loadCount++;
+            ArrayList<String> content = new ArrayList<>();
+            content.add("first line");
+            content.add("second line");
+            return content;
+        }
+
+        @Override
+        public ArrayList<String> readContent(Note note) {
+            return loadContent(note);
+        }
+
+        @Override
+        public ArrayList<ArrayList<String>> readContents(List<Note> notes) {
+            ArrayList<ArrayList<String>> contents = new ArrayList<>();
+            for (Note note : notes) {
+                contents.add(readContent(note));
+            }
+            return contents;
+        }
+
+        @Override
+        public String loadPreview(Note note) {
+            return "first line";
+        }
+    }
+
+    @Test
+    void getContent_lazyNote_loadedOnce() {
+        CountingLoader loader = new CountingLoader();
+        Note note = new Note("Lazy", new ArrayList<>(), false, false);
+        note.setContentLoader(loader);
+
+        assertFalse(note.isContentLoaded());
+        assertEquals("first line", note.getContentPreview());
+        assertEquals(0, loader.loadCount);
+
+        assertEquals(2, note.getContent().size());
+        assertEquals(2, note.getContent().size());
+        assertEquals(1, loader.loadCount);
+        assertTrue(note.isContentLoaded());
+    }
+
+    @Test
+    void unloadContent_lazyNote_reloadedOnNextAccess() {
+        CountingLoader loader = new CountingLoader();
+        Note note = new Note("Lazy", new ArrayList<>(), false, false);
+        note.setContentLoader(loader);
+
+        note.getContent();
+        note.unloadContent();
+        assertFalse(note.isContentLoaded());
+        note.getContent();
+        assertEquals(2, loader.loadCount);
+    }
+
+    @Test
+    void readContent_lazyNote_notKept() {
+        CountingLoader loader = new CountingLoader();
+        Note note = new Note("Lazy", new ArrayList<>(), false, false);
+        note.setContentLoader(loader);
+
+        assertEquals(2, note.readContent().size());
+        assertFalse(note.isContentLoaded());
+        note.getContent();
+        assertEquals(2, note.readContent().size());
+        assertEquals(2, loader.loadCount);
+    }
+
+    @Test
+    void unloadContent_eagerNote_contentKept() {
+        ArrayList<String> content = new ArrayList<>();
+        content.add("content");
+        Note note = new Note("Eager", content, false, false);
+
+        note.unloadContent();
+        assertTrue(note.isContentLoaded());
+        assertEquals("content", note.getContentPreview());
+    }
+}
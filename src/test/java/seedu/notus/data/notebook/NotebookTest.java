@@ -1,14 +1,166 @@
 package seedu.notus.data.notebook;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 class NotebookTest {
 
+    private Notebook notebook;
+    private Note note;
+
+    @BeforeEach
+    public void setUp() {
+        ArrayList<String> content = new ArrayList<>();
+        content.add("content");
+
+        notebook = new Notebook();
+        note = new Note("CS2113", content, false, false);
+        notebook.addNote(note);
+    }
+
     @Test
     void addNote() {
+        assertTrue(notebook.getNote("cs2113"));
+        assertEquals(note, notebook.getNote("CS2113", false));
+        assertFalse(notebook.getArchiveNote("CS2113"));
     }
 
     @Test
     void deleteNote() {
+        assertTrue(notebook.deleteNote("cs2113"));
+        assertFalse(notebook.getNote("CS2113"));
+        assertFalse(notebook.deleteNote("CS2113"));
+        assertEquals(0, notebook.getSize());
+    }
+
+    @Test
+    void archiveNotes_archiveAndUnarchive_indexUpdated() {
+        notebook.archiveNotes("CS2113");
+        assertFalse(notebook.getNote("CS2113"));
+        assertTrue(notebook.getArchiveNote("CS2113"));
+
+        notebook.unarchiveNotes(0);
+        assertTrue(notebook.getNote("CS2113"));
+        assertFalse(notebook.getArchiveNote("CS2113"));
+    }
+
+    @Test
+    void renameNote_newTitle_indexUpdated() {
+        notebook.renameNote(note, "CS2101");
+
+        assertFalse(notebook.getNote("CS2113"));
+        assertNull(notebook.findNote("CS2113", false));
+        assertEquals(note, notebook.findNote("cs2101", false));
+    }
+
+    @Test
+    void findNotes_notesChangedAfterSearch_indexUpdated() {
+        ArrayList<String> content = new ArrayList<>();
+        content.add("Java content, more content");
+        Note javaNote = new Note("Java", content, false, false);
+        notebook.addNote(javaNote);
+
+        assertEquals(javaNote, notebook.findNotes("content").get(0));
+        assertEquals(2, notebook.findNotes("content").size());
+        assertEquals(1, notebook.findNotes("java OR python").size());
+
+        notebook.renameNote(note, "Python");
+        notebook.archiveNotes("Java");
+        assertEquals(note, notebook.findNotes("java OR python").get(0));
+        assertTrue(notebook.findNotes("java").isEmpty());
+
+        notebook.deleteNote("Python");
+        assertTrue(notebook.findNotes("content").isEmpty());
+    }
+
+    @Test
+    void findNotes_equallyMatchingNotes_orderOfNotebookKept() {
+        ArrayList<String> content = new ArrayList<>();
+        content.add("lecture");
+        Note javaNote = new Note("Java", content, false, false);
+        Note pythonNote = new Note("Python", content, false, false);
+        notebook.addNote(javaNote);
+        notebook.addNote(pythonNote);
+        notebook.archiveNotes("Java");
+        notebook.unarchiveNotes("Java");
+
+        Note kotlinNote = new Note("Kotlin", content, false, false);
+        notebook.setNotes(1, kotlinNote);
+
+        assertEquals(List.of(kotlinNote, javaNote), notebook.findNotes("lecture"));
+        javaNote.setContent(new ArrayList<>(List.of("lecture", "lecture again")));
+        notebook.setNotes(2, javaNote);
+        assertEquals(List.of(javaNote, kotlinNote), notebook.findNotes("lecture"));
+    }
+
+    @Test
+    void findNotes_lazyNotes_contentReadTogetherNotKeptAndArchivedNotesNotRead() {
+        ArrayList<String> readTitles = new ArrayList<>();
+        ArrayList<Integer> batchSizes = new ArrayList<>();
+        NoteContentLoader loader = new NoteContentLoader() {
+            @Override
+            public ArrayList<String> loadContent(Note note) {
+                return readContent(note);
+            }
+
+            @Override
+            public ArrayList<String> readContent(Note note) {
+                readTitles.add(note.getTitle());
+                ArrayList<String> content = new ArrayList<>();
+                content.add(note.getTitle() + " lecture");
+                return content;
+            }
+
+            @Override
+            public ArrayList<ArrayList<String>> readContents(List<Note> notes) {
+                batchSizes.add(notes.size());
+                ArrayList<ArrayList<String>> contents = new ArrayList<>();
+                for (Note note : notes) {
+                    contents.add(readContent(note));
+                }
+                return contents;
+            }
+
+            @Override
+            public String loadPreview(Note note) {
+                return "";
+            }
+        };
+        Note javaNote = new Note("Java", new ArrayList<>(), false, false);
+        Note pythonNote = new Note("Python", new ArrayList<>(), false, false);
+        notebook.addNote(javaNote);
+        notebook.addNote(pythonNote);
+        notebook.archiveNotes("Python");
+        javaNote.setContentLoader(loader);
+        pythonNote.setContentLoader(loader);
+
+        assertEquals(javaNote, notebook.findNotes("lecture").get(0));
+        assertEquals(1, notebook.findNotes("lecture").size());
+        assertFalse(javaNote.isContentLoaded());
+        assertEquals("Java", String.join(",", readTitles));
+        assertEquals(List.of(1), batchSizes);
+    }
+
+    @Test
+    void getChangedNotes_changedAndDeletedNotes_onlyUnsavedNotesReturned() {
+        assertEquals(1, notebook.getChangedNotes().size());
+        notebook.clearChanges();
+        assertTrue(notebook.getChangedNotes().isEmpty());
+
+        notebook.archiveNotes("CS2113");
+        assertEquals(note, notebook.getChangedNotes().get(0));
+
+        notebook.clearChanged(note);
+        notebook.unarchiveNotes(0);
+        notebook.deleteNote("CS2113");
+        assertTrue(notebook.getChangedNotes().isEmpty());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,104 @@
+package seedu.notus.data.tag;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.notebook.Notebook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TagExpressionTest {
+
+    private TagManager tagManager;
+    private Notebook notebook;
+
+    private Note noteCS2113;
+    private Note noteExam;
+    private Note noteQuiz;
+    private Note notePersonal;
+
+    @BeforeEach
+    public void setUp() {
+        tagManager = new TagManager();
+        notebook = new Notebook();
+
+        Tag tagCS2113 = new Tag("CS2113", Tag.COLOR_BLUE_STRING);
+        Tag tagExam = new Tag("Exam", Tag.COLOR_RED_STRING);
+        Tag tagQuiz = new Tag("Quiz", Tag.COLOR_YELLOW_STRING);
+        tagManager.createTag(tagCS2113, false);
+        tagManager.createTag(tagExam, false);
+        tagManager.createTag(tagQuiz, false);
+
+        noteCS2113 = new Note("CS2113", new ArrayList<>(), false, false);
+        noteExam = new Note("CS2113 Exam", new ArrayList<>(), false, false);
+        noteQuiz = new Note("CS2113 Quiz", new ArrayList<>(), false, false);
+        notePersonal = new Note("Personal", new ArrayList<>(), false, false);
+        tagManager.tagObject(noteCS2113, tagCS2113);
+        tagManager.tagObject(noteExam, tagCS2113);
+        tagManager.tagObject(noteExam, tagExam);
+        tagManager.tagObject(noteQuiz, tagCS2113);
+        tagManager.tagObject(noteQuiz, tagQuiz);
+
+        notebook.addNote(noteCS2113);
+        notebook.addNote(noteExam);
+        notebook.addNote(noteQuiz);
+        notebook.addNote(notePersonal);
+    }
+
+    @Test
+    public void evaluate_andNotWithBrackets_matchingNotes() throws SystemException {
+        assertEquals(List.of(noteCS2113), evaluate("CS2113 AND NOT (Exam OR Quiz)"));
+        assertEquals(List.of(noteExam, noteQuiz), evaluate("cs2113 and exam or quiz"));
+        assertEquals(List.of(notePersonal), evaluate("not CS2113"));
+    }
+
+    @Test
+    public void evaluate_archivedNote_notMatched() throws SystemException {
+        notebook.archiveNotes("CS2113 Exam");
+        assertEquals(List.of(noteCS2113, noteQuiz), evaluate("CS2113"));
+    }
+
+    @Test
+    public void hasExistingTag_unknownTags_returnFalse() throws SystemException {
+        assertFalse(TagExpression.parse("Unknown OR Missing").hasExistingTag(tagManager));
+        assertTrue(TagExpression.parse("Unknown OR exam").hasExistingTag(tagManager));
+    }
+
+    @Test
+    public void evaluate_quotedTagNames_matchedAsTags() throws SystemException {
+        Tag tagOr = new Tag("or", Tag.COLOR_GREEN_STRING);
+        Tag tagDraft = new Tag("(draft)", Tag.COLOR_GREEN_STRING);
+        tagManager.createTag(tagOr, false);
+        tagManager.createTag(tagDraft, false);
+        tagManager.tagObject(notePersonal, tagOr);
+        tagManager.tagObject(noteQuiz, tagDraft);
+
+        assertEquals(List.of(notePersonal), evaluate("\"or\""));
+        assertEquals(List.of(noteQuiz), evaluate("\"(draft)\""));
+        assertEquals(List.of(noteQuiz, notePersonal), evaluate("\"or\" OR (\"(draft)\" AND Quiz)"));
+        assertTrue(TagExpression.parse("\"or\"").getSingleTag(tagManager) == tagOr);
+        assertTrue(TagExpression.parse("\"or\" OR Exam").getSingleTag(tagManager) == null);
+    }
+
+    @Test
+    public void parse_malformedExpression_exceptionThrown() {
+        assertThrows(SystemException.class, () -> TagExpression.parse("CS2113 AND"));
+        assertThrows(SystemException.class, () -> TagExpression.parse("(CS2113 OR Exam"));
+        assertThrows(SystemException.class, () -> TagExpression.parse("CS2113 Exam"));
+        assertThrows(SystemException.class, () -> TagExpression.parse("OR Exam"));
+        assertThrows(SystemException.class, () -> TagExpression.parse("or"));
+        assertThrows(SystemException.class, () -> TagExpression.parse("\"Exam"));
+        assertThrows(SystemException.class, () -> TagExpression.parse("\"\""));
+    }
+
+    private ArrayList<Note> evaluate(String expression) throws SystemException {
+        return notebook.getNotes(TagExpression.parse(expression).evaluate(tagManager, notebook.getNoteIds()));
+    }
+}
@@ -125,6 +125,20 @@ class TagManagerTest {
         assertEquals(defaultTagManager.getTag(tagPersonal.getTagName()), tagPersonal);
     }
 
+    @Test
+    public void getTag_differentCase_returnTag() {
+        assertEquals(defaultTagManager.getTag("cs2113"), tagCS2113);
+        assertEquals(defaultTagManager.getTag("IMPORTANT"), tagImportant);
+        assertNull(defaultTagManager.getTag(null));
+    }
+
+    @Test
+    public void getTag_tagDeleted_returnNull() {
+        defaultTagManager.deleteTag(new Tag("school", Tag.COLOR_RED_STRING));
+        assertNull(defaultTagManager.getTag(tagSchool.getTagName()));
+        assertEquals(defaultTagManager.getTag(tagPersonal.getTagName()), tagPersonal);
+    }
+
     @Test
     public void tagNote_tagExist_tagNote() {
         // noteDefault does not have tagDefault at this point
@@ -167,6 +181,28 @@ class TagManagerTest {
         assertTrue(emptyTagManager.getTagMap().get(tagDefault).contains(noteDefault));
     }
 
+    @Test
+    public void tagNote_tagTwice_taggedOnce() {
+        defaultTagManager.tagObject(noteCS2113, tagCS2113);
+        assertEquals(noteCS2113.getTags().size(), 3);
+        assertEquals(defaultTagManager.getTagMap().get(tagCS2113).size(), 2);
+    }
+
+    @Test
+    public void rebindTags_copiesOfExistingTags_reboundInOrder() {
+        ArrayList<Tag> tags = new ArrayList<>();
+        tags.add(new Tag("school", Tag.COLOR_RED_STRING));
+        tags.add(new Tag("New", Tag.COLOR_RED_STRING));
+        tags.add(new Tag("CS2113", Tag.COLOR_RED_STRING));
+        noteDefault.setTags(tags);
+
+        defaultTagManager.rebindTags(noteDefault);
+        assertEquals(noteDefault.getTags().get(0), tagSchool);
+        assertEquals(noteDefault.getTags().get(1), tags.get(1));
+        assertEquals(noteDefault.getTags().get(2), tagCS2113);
+        assertTrue(defaultTagManager.getTagMap().get(tagSchool).contains(noteDefault));
+    }
+
     @Test
     public void removeTag_noteContainsTag_removeTag() {
         assertTrue(noteCS2113.getTags().contains(tagCS2113));
@@ -209,6 +245,50 @@ class TagManagerTest {
         assertEquals(notePersonal.getTags().size(), 0);
     }
 
+    @Test
+    public void createTag_overridesColor_taggedNotesChanged() {
+        defaultTagManager.clearChanges();
+        defaultTagManager.createTag(new Tag("Personal", Tag.COLOR_RED_STRING), true);
+
+        assertEquals(1, defaultTagManager.getChangedObjects().size());
+        assertTrue(defaultTagManager.getChangedObjects().contains(notePersonal));
+
+        defaultTagManager.clearChanged(notePersonal);
+        assertTrue(defaultTagManager.getChangedObjects().isEmpty());
+    }
+
+    @Test
+    public void getTopUsages_taggedNotes_mostUsedInCreationOrder() {
+        ArrayList<TagUsage> topUsages = defaultTagManager.getTopUsages(3);
+
+        assertEquals(3, topUsages.size());
+        assertEquals(tagImportant, topUsages.get(0).getTag());
+        assertEquals(tagSchool, topUsages.get(1).getTag());
+        assertEquals(tagCS2113, topUsages.get(2).getTag());
+        assertEquals(3, topUsages.get(0).getNoteCount());
+
+        assertEquals(1, defaultTagManager.getUnusedTags().size());
+        assertEquals(tagDefault, defaultTagManager.getUnusedTags().get(0));
+    }
+
+    @Test
+    public void updateArchived_noteArchivedThenUntagged_countsUpdated() {
+        noteMath.setArchived(true);
+        defaultTagManager.updateArchived(noteMath);
+
+        TagUsage usage = defaultTagManager.getUsage(tagSchool);
+        assertEquals(2, usage.getNoteCount());
+        assertEquals(1, usage.getArchivedNoteCount());
+
+        defaultTagManager.untagObject(noteMath);
+        assertEquals(0, usage.getArchivedNoteCount());
+        assertEquals(2, usage.getTotalCount());
+
+        defaultTagManager.untagObject(notePersonal);
+        assertEquals(2, defaultTagManager.getUnusedTags().size());
+        assertEquals(tagPersonal, defaultTagManager.getUnusedTags().get(1));
+    }
+
     //@Test
     //public void listTags_emptyTags_returnDefaultMessage() {
     //    assertEquals(emptyTagManager.listTags(), TagManager.STRING_TAG_EMPTY);
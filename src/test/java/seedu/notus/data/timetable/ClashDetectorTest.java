@@ -0,0 +1,109 @@
+package seedu.notus.data.timetable;
+
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.tag.Tag;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClashDetectorTest {
+    private static final LocalDateTime TEST_DATE_TIME = LocalDateTime.of(2021, 1, 4, 13, 0);
+    private static final HashMap<String, ArrayList<Integer>> reminderSchedule = new HashMap<>();
+
+    /**
+     * Asserts that a recurring event is checked over its future occurrences, up to the maximum number of clashes.
+     */
+    @Test
+    void getClashes_weeklyAgainstLaterDaily_firstClashesFromSharedStart() {
+        Timetable timetable = new Timetable();
+        timetable.addEvent(new DailyEvent("Daily", TEST_DATE_TIME.plusDays(10).minusMinutes(30),
+                TEST_DATE_TIME.plusDays(10).plusMinutes(30), false, reminderSchedule, new ArrayList<Tag>()));
+        WeeklyEvent event = new WeeklyEvent("Weekly", TEST_DATE_TIME, TEST_DATE_TIME.plusHours(1),
+                false, reminderSchedule, new ArrayList<Tag>());
+
+        ArrayList<Clash> clashes = timetable.getClashes(event, 3);
+        assertEquals(3, clashes.size());
+        assertEquals(TEST_DATE_TIME.toLocalDate().plusWeeks(2), clashes.get(0).getEvent().getStartDate());
+        assertEquals(TEST_DATE_TIME.toLocalDate().plusWeeks(4), clashes.get(2).getClashingEvent().getStartDate());
+        assertFalse(clashes.get(0).isDuplicate());
+    }
+
+    /**
+     * Asserts that recurring events that never share a date or never overlap in time do not clash.
+     */
+    @Test
+    void getClashes_differentWeekdaysOrTimes_noClashes() {
+        Timetable timetable = new Timetable();
+        timetable.addEvent(new WeeklyEvent("Weekly", TEST_DATE_TIME.plusDays(1),
+                TEST_DATE_TIME.plusDays(1).plusHours(1), false, reminderSchedule, new ArrayList<Tag>()));
+        timetable.addEvent(new DailyEvent("Daily", TEST_DATE_TIME.plusHours(2), TEST_DATE_TIME.plusHours(3),
+                false, reminderSchedule, new ArrayList<Tag>()));
+
+        WeeklyEvent event = new WeeklyEvent("Weekly", TEST_DATE_TIME, TEST_DATE_TIME.plusHours(1),
+                false, reminderSchedule, new ArrayList<Tag>());
+        assertTrue(timetable.getClashes(event, 3).isEmpty());
+    }
+
+    /**
+     * Asserts that monthly events on different days of the month only clash when both are moved to the end of a
+     * shorter month.
+     */
+    @Test
+    void getClashes_monthlyEndOfMonth_clashInShorterMonths() {
+        Timetable timetable = new Timetable();
+        LocalDateTime startDateTime = LocalDateTime.of(2021, 1, 30, 9, 0);
+        timetable.addEvent(new MonthlyEvent("Thirtieth", startDateTime, startDateTime.plusHours(1),
+                false, reminderSchedule, new ArrayList<Tag>()));
+        MonthlyEvent event = new MonthlyEvent("Thirty first", startDateTime.plusDays(1),
+                startDateTime.plusDays(1).plusHours(1), false, reminderSchedule, new ArrayList<Tag>());
+
+        ArrayList<LocalDate> clashDates = new ArrayList<>();
+        for (Clash clash : timetable.getClashes(event, 3)) {
+            clashDates.add(clash.getClashingEvent().getStartDate());
+        }
+        assertEquals(List.of(LocalDate.of(2021, 2, 28), LocalDate.of(2021, 4, 30), LocalDate.of(2021, 6, 30)),
+                clashDates);
+    }
+
+    /**
+     * Asserts that yearly events clash with weekly events only in the years they fall on the same weekday.
+     */
+    @Test
+    void getClashes_yearlyAgainstWeekly_clashOnSameWeekday() {
+        Timetable timetable = new Timetable();
+        timetable.addEvent(new WeeklyEvent("Weekly", TEST_DATE_TIME, TEST_DATE_TIME.plusHours(1),
+                false, reminderSchedule, new ArrayList<Tag>()));
+        // 4 January 2021 is a Monday, as is 4 January 2027.
+        YearlyEvent event = new YearlyEvent("Yearly", TEST_DATE_TIME, TEST_DATE_TIME.plusHours(1),
+                false, reminderSchedule, new ArrayList<Tag>());
+
+        ArrayList<Clash> clashes = timetable.getClashes(event, 2);
+        assertEquals(TEST_DATE_TIME, clashes.get(0).getClashingEvent().getStartDateTime());
+        assertEquals(TEST_DATE_TIME.withYear(2027), clashes.get(1).getClashingEvent().getStartDateTime());
+    }
+
+    /**
+     * Asserts that a one-off event is checked against stored events on the date it occurs.
+     */
+    @Test
+    void getClashes_oneOffAgainstRecurringAndOneOff_clashesInStartOrder() {
+        Timetable timetable = new Timetable();
+        timetable.addEvent(new Event("One off", TEST_DATE_TIME.plusMinutes(30), TEST_DATE_TIME.plusHours(2),
+                false, false));
+        timetable.addEvent(new MonthlyEvent("Monthly", TEST_DATE_TIME.minusMonths(1), TEST_DATE_TIME.minusMonths(1)
+                .plusHours(1), false, reminderSchedule, new ArrayList<Tag>()));
+
+        Event event = new Event("Monthly", TEST_DATE_TIME, TEST_DATE_TIME.plusHours(1), false, false);
+        ArrayList<Clash> clashes = timetable.getClashes(event, 5);
+        assertEquals(2, clashes.size());
+        assertTrue(clashes.get(0).isDuplicate());
+        assertEquals("One off", clashes.get(1).getClashingEvent().getTitle());
+    }
+}
@@ -10,6 +10,7 @@ import java.util.HashMap;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 //@@author brandonywl
@@ -60,4 +61,23 @@ class DailyEventTest {
         LocalDate endDate = startDate.plusWeeks(1);
         assertEquals(8, (event.getRecurrences(startDate, endDate).size()));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests if each recurrence derives its timings from the date it occurs on and the rest from the event.
+     */
+    @Test
+    void getRecurrences_secondDay_derivedFromEvent() {
+        reminderSchedule.put("day", TEST_TIME_PERIODS);
+        LocalDate secondDate = TEST_DATE_TIME.toLocalDate().plusDays(1);
+        Event recurrence = event.getRecurrences(secondDate, secondDate).get(0);
+
+        assertEquals(TEST_TITLE, recurrence.getTitle());
+        assertEquals(TEST_DATE_TIME.plusDays(1), recurrence.getStartDateTime());
+        assertEquals(TEST_END_DATE_TIME.plusDays(1), recurrence.getEndDateTime());
+        assertEquals(List.of(secondDate.minusDays(3), secondDate.minusDays(1)), recurrence.getReminderDates());
+        assertFalse(recurrence.getRecurring());
+
+        event.setTitle("CS2113 Lab");
+        assertEquals("CS2113 Lab", recurrence.getTitle());
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.notus.data.timetable;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventCalendarTest {
+    private static final LocalDateTime TEST_DATE_TIME = LocalDateTime.of(2020, 12, 31, 13, 0);
+
+    private final Event lateEvent = createEvent("Late", TEST_DATE_TIME.plusHours(5));
+    private final Event earlyEvent = createEvent("Early", TEST_DATE_TIME.minusHours(5));
+    private final Event sameTimeEvent = createEvent("Same time", TEST_DATE_TIME.minusHours(5));
+    private final Event nextYearEvent = createEvent("Next year", TEST_DATE_TIME.plusDays(1));
+
+    /**
+     * Asserts that the events of each date are sorted by starting time, keeping the given order for ties.
+     */
+    @Test
+    void getEvents_unsortedEvents_sortedWithinDate() {
+        EventCalendar calendar = new EventCalendar(LocalDate.of(2020, 12, 1), LocalDate.of(2021, 1, 31),
+                List.of(nextYearEvent, lateEvent, earlyEvent, sameTimeEvent));
+
+        assertEquals(4, calendar.size());
+        assertEquals(List.of(earlyEvent, sameTimeEvent, lateEvent), calendar.getEvents(TEST_DATE_TIME.toLocalDate()));
+        assertTrue(calendar.getEvents(TEST_DATE_TIME.toLocalDate()).get(1) == sameTimeEvent);
+        assertEquals(List.of(nextYearEvent), calendar.getEvents(YearMonth.of(2021, 1)));
+        assertEquals(List.of(YearMonth.of(2020, 12), YearMonth.of(2021, 1)), calendar.getMonths());
+    }
+
+    /**
+     * Asserts that dates and months outside of the calendar have no events.
+     */
+    @Test
+    void getEvents_outsideCalendar_empty() {
+        EventCalendar calendar = new EventCalendar(LocalDate.of(2020, 12, 31), LocalDate.of(2020, 12, 31),
+                List.of(lateEvent));
+
+        assertTrue(calendar.getEvents(LocalDate.of(2021, 1, 1)).isEmpty());
+        assertTrue(calendar.getEvents(YearMonth.of(2020, 11)).isEmpty());
+        assertEquals(List.of(lateEvent), calendar.getEvents(YearMonth.of(2020, 12)));
+        assertTrue(new EventCalendar(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31), List.of()).isEmpty());
+    }
+
+    private static Event createEvent(String title, LocalDateTime startDateTime) {
+        return new Event(title, startDateTime, startDateTime.plusHours(1), false, false);
+    }
+}
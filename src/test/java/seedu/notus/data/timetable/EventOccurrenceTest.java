@@ -0,0 +1,63 @@
+package seedu.notus.data.timetable;
+
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.tag.Tag;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test Driver to test that an EventOccurrence cannot be edited.
+ */
+class EventOccurrenceTest {
+    private static final String TEST_TITLE = "CS2113 Tutorial";
+    private static final LocalDateTime TEST_DATE_TIME = LocalDateTime.of(2020, 8, 27, 13, 0);
+    private static final LocalDateTime TEST_END_DATE_TIME = LocalDateTime.of(2020, 8, 27, 14, 0);
+    private static final LocalDate TEST_OCCURRENCE_DATE = LocalDate.of(2020, 9, 1);
+
+    private final DailyEvent parent = new DailyEvent(TEST_TITLE, TEST_DATE_TIME, TEST_END_DATE_TIME,
+            false, new HashMap<>(), new ArrayList<>());
+    private final EventOccurrence occurrence = new EventOccurrence(parent, TEST_OCCURRENCE_DATE);
+
+    @Test
+    void mutators_anyChange_throwsAndParentUnchanged() {
+        Tag tag = new Tag("tutorial", "red");
+
+        assertThrows(UnsupportedOperationException.class, () -> occurrence.setTitle("Lecture"));
+        assertThrows(UnsupportedOperationException.class, () -> occurrence.setStartDateTime(TEST_END_DATE_TIME));
+        assertThrows(UnsupportedOperationException.class, () -> occurrence.setEndDateTime(TEST_DATE_TIME));
+        assertThrows(UnsupportedOperationException.class, () -> occurrence.setIsToRemind(true));
+        assertThrows(UnsupportedOperationException.class, () -> occurrence.setReminderPeriods(new HashMap<>()));
+        assertThrows(UnsupportedOperationException.class, () -> occurrence.setTags(new ArrayList<>()));
+        assertThrows(UnsupportedOperationException.class, () -> occurrence.addTag(tag));
+        assertThrows(UnsupportedOperationException.class, () -> occurrence.removeTag(tag));
+
+        assertEquals(TEST_TITLE, parent.getTitle());
+        assertEquals(TEST_DATE_TIME, parent.getStartDateTime());
+        assertEquals(TEST_END_DATE_TIME, parent.getEndDateTime());
+        assertFalse(parent.getIsToRemind());
+        assertFalse(parent.hasTag(tag));
+    }
+
+    @Test
+    void getters_occurrenceDate_derivedFromParent() {
+        assertEquals(TEST_TITLE, occurrence.getTitle());
+        assertEquals(LocalDateTime.of(TEST_OCCURRENCE_DATE, TEST_DATE_TIME.toLocalTime()),
+                occurrence.getStartDateTime());
+        assertEquals(LocalDateTime.of(TEST_OCCURRENCE_DATE, TEST_END_DATE_TIME.toLocalTime()),
+                occurrence.getEndDateTime());
+        assertFalse(occurrence.getRecurring());
+    }
+
+    @Test
+    void addEvent_occurrence_rejected() {
+        Timetable timetable = new Timetable();
+        assertThrows(AssertionError.class, () -> timetable.addEvent(occurrence));
+    }
+}
@@ -63,4 +63,41 @@ class MonthlyEventTest {
         LocalDate endDate = startDate.plusMonths(4);
         assertEquals(5, (event.getRecurrences(startDate, endDate).size()));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests if an event on the last day of a month reoccurs on the last day of shorter months years later.
+     */
+    @Test
+    void getRecurrences_endOfMonthYearsLater_clampedDates() {
+        LocalDateTime startDateTime = LocalDateTime.of(2020, 1, 31, 13, 0);
+        MonthlyEvent endOfMonthEvent = new MonthlyEvent(TEST_TITLE, startDateTime, startDateTime.plusHours(1),
+                TEST_REMINDER, reminderSchedule, tags);
+
+        ArrayList<Event> recurrences = endOfMonthEvent.getRecurrences(LocalDate.of(2030, 2, 1),
+                LocalDate.of(2030, 4, 30));
+        assertEquals(3, recurrences.size());
+        assertEquals(LocalDate.of(2030, 2, 28), recurrences.get(0).getStartDate());
+        assertEquals(LocalDate.of(2030, 3, 31), recurrences.get(1).getStartDate());
+        assertEquals(LocalDate.of(2030, 4, 30), recurrences.get(2).getStartDate());
+        assertFalse(endOfMonthEvent.toReoccur(LocalDate.of(2030, 3, 30)));
+    }
+
+    /**
+     * Tests if repeated recurrences are served from memory until the dates the event re-occurs on are edited.
+     */
+    @Test
+    void getRecurrences_repeatedThenEdited_cachedThenRecomputed() {
+        LocalDate startDate = TEST_DATE_TIME.toLocalDate();
+        ArrayList<Event> recurrences = event.getRecurrences(startDate, startDate.plusMonths(2));
+        ArrayList<Event> repeatedRecurrences = event.getRecurrences(startDate.plusMonths(1), startDate.plusMonths(3));
+        assertTrue(recurrences.get(1) == repeatedRecurrences.get(0));
+
+        event.setStartDateTime(TEST_DATE_TIME.plusDays(1));
+        event.setEndDateTime(TEST_END_DATE_TIME.plusDays(1));
+        assertEquals(startDate.plusMonths(1).plusDays(1),
+                event.getRecurrences(startDate.plusMonths(1), startDate.plusMonths(3)).get(0).getStartDate());
+
+        event.setEndRecurrenceDate(startDate.plusMonths(2).plusDays(1));
+        assertEquals(2, event.getRecurrences(startDate.plusMonths(1), startDate.plusMonths(3)).size());
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.notus.data.timetable;
+
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.tag.Tag;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReminderIndexTest {
+    private static final LocalDateTime TEST_DATE_TIME = LocalDateTime.of(2020, 8, 27, 13, 0);
+    private static final LocalDate TODAY = TEST_DATE_TIME.toLocalDate().plusDays(10);
+
+    private final HashMap<String, ArrayList<Integer>> reminderSchedule =
+            new HashMap<>(Map.of(Event.REMINDER_DAY, new ArrayList<>(List.of(1, 3))));
+    private final DailyEvent dailyEvent = new DailyEvent("Daily", TEST_DATE_TIME, TEST_DATE_TIME.plusHours(1),
+            true, reminderSchedule, new ArrayList<Tag>());
+    private final Event oneOffEvent = new Event("One off", TODAY.plusDays(3).atTime(9, 0),
+            TODAY.plusDays(3).atTime(10, 0), true, false, reminderSchedule);
+
+    /**
+     * Asserts that reminders of recurring and one-off events are looked up by date in order of starting time.
+     */
+    @Test
+    void getReminders_recurringAndOneOffEvents_remindersOfDate() {
+        ReminderIndex reminderIndex = new ReminderIndex();
+        ArrayList<Reminder> reminders = reminderIndex.getReminders(TODAY, List.of(dailyEvent, oneOffEvent));
+
+        // The daily event is reminded of for tomorrow and in 3 days, the one-off event for in 3 days.
+        assertEquals(3, reminders.size());
+        assertEquals(TODAY.plusDays(1), reminders.get(0).getEvent().getStartDate());
+        assertTrue(reminders.get(1).getEvent() == oneOffEvent);
+        assertEquals(TODAY.plusDays(3).atTime(13, 0), reminders.get(2).getEvent().getStartDateTime());
+        assertEquals(2, reminderIndex.getReminders(TODAY.plusDays(1), List.of(dailyEvent, oneOffEvent)).size());
+    }
+
+    /**
+     * Asserts that reminders are kept up to date as events are added, edited and removed.
+     */
+    @Test
+    void addUpdateRemove_events_indexUpdated() {
+        ReminderIndex reminderIndex = new ReminderIndex();
+        reminderIndex.rebuild(TODAY, List.of(dailyEvent));
+        reminderIndex.add(oneOffEvent);
+        assertEquals(3, reminderIndex.getReminders(TODAY, List.of()).size());
+
+        oneOffEvent.setIsToRemind(false);
+        reminderIndex.update(oneOffEvent);
+        assertEquals(2, reminderIndex.getReminders(TODAY, List.of()).size());
+
+        reminderIndex.remove(dailyEvent);
+        assertTrue(reminderIndex.getReminders(TODAY, List.of()).isEmpty());
+    }
+
+    /**
+     * Asserts that looking up a date outside of the window moves the window to the date.
+     */
+    @Test
+    void getReminders_dateAfterWindow_windowMoved() {
+        ReminderIndex reminderIndex = new ReminderIndex();
+        reminderIndex.rebuild(TODAY, List.of(dailyEvent));
+        LocalDate laterDate = TODAY.plusDays(ReminderIndex.WINDOW_DAYS + 5);
+
+        assertEquals(2, reminderIndex.getReminders(laterDate, List.of(dailyEvent)).size());
+    }
+}
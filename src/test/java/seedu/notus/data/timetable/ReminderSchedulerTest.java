@@ -0,0 +1,115 @@
+package seedu.notus.data.timetable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.tag.Tag;
+import seedu.notus.ui.InterfaceManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReminderSchedulerTest {
+    private static final LocalDate TODAY = LocalDate.of(2020, 9, 6);
+    private static final LocalDateTime TEST_DATE_TIME = LocalDateTime.of(2020, 8, 27, 13, 0);
+
+    private final HashMap<String, ArrayList<Integer>> reminderSchedule =
+            new HashMap<>(Map.of(Event.REMINDER_DAY, new ArrayList<>(List.of(1, 3))));
+    private final DailyEvent dailyEvent = new DailyEvent("Daily", TEST_DATE_TIME, TEST_DATE_TIME.plusHours(1),
+            true, TEST_DATE_TIME.toLocalDate().plusDays(13), reminderSchedule, new ArrayList<Tag>());
+
+    private ByteArrayOutputStream output;
+    private Timetable timetable;
+    private ReminderScheduler reminderScheduler;
+
+    @BeforeEach
+    public void setUp() {
+        output = new ByteArrayOutputStream();
+        InterfaceManager interfaceManager = new InterfaceManager(new ByteArrayInputStream(new byte[0]),
+                new PrintStream(output, true));
+        Clock clock = Clock.fixed(TODAY.atTime(8, 0).atZone(ZoneId.systemDefault()).toInstant(),
+                ZoneId.systemDefault());
+
+        timetable = new Timetable();
+        timetable.addEvent(dailyEvent);
+        reminderScheduler = new ReminderScheduler(timetable, interfaceManager, clock);
+        timetable.addObserver(reminderScheduler);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        reminderScheduler.stop();
+    }
+
+    /**
+     * Asserts that reminders due today are printed in the background and later reminders stay queued.
+     */
+    @Test
+    void start_remindersDueToday_printed() throws InterruptedException {
+        reminderScheduler.start();
+        for (int i = 0; i < 100 && output.size() == 0; i++) {
+            Thread.sleep(10);
+        }
+
+        // The daily event stops recurring on 9 September, so 7 and 9 September are reminded of today.
+        assertEquals(2, output.toString().split("Event: Daily", -1).length - 1);
+        ArrayList<Reminder> queuedReminders = reminderScheduler.getQueuedReminders();
+        assertEquals(2, queuedReminders.size());
+        assertEquals(TODAY.plusDays(1), queuedReminders.get(0).getDateToRemind());
+    }
+
+    /**
+     * Asserts that only the reminders of the event that changed are recomputed.
+     */
+    @Test
+    void eventRemovedAndAdded_queuedRemindersRecomputed() {
+        reminderScheduler.start();
+        reminderScheduler.stop();
+        Event oneOffEvent = new Event("One off", TODAY.plusDays(4).atTime(9, 0), TODAY.plusDays(4).atTime(10, 0),
+                true, false, reminderSchedule);
+        timetable.addEvent(oneOffEvent);
+        assertEquals(2 + 2, getQueuedRemindersAfterToday().size());
+
+        timetable.deleteEvent(0);
+        ArrayList<Reminder> queuedReminders = getQueuedRemindersAfterToday();
+        assertEquals(2, queuedReminders.size());
+        assertTrue(queuedReminders.get(0).getEvent() == oneOffEvent);
+    }
+
+    /**
+     * Asserts that editing an event after its reminders of today were raised does not queue them again.
+     */
+    @Test
+    void eventEditedAfterStart_raisedRemindersNotQueuedAgain() throws InterruptedException {
+        reminderScheduler.start();
+        for (int i = 0; i < 100 && output.size() == 0; i++) {
+            Thread.sleep(10);
+        }
+        reminderScheduler.stop();
+
+        dailyEvent.setTitle("Renamed daily");
+        timetable.updateEvent(dailyEvent);
+
+        ArrayList<Reminder> queuedReminders = reminderScheduler.getQueuedReminders();
+        assertEquals(2, queuedReminders.size());
+        assertEquals(TODAY.plusDays(1), queuedReminders.get(0).getDateToRemind());
+    }
+
+    private ArrayList<Reminder> getQueuedRemindersAfterToday() {
+        ArrayList<Reminder> queuedReminders = reminderScheduler.getQueuedReminders();
+        queuedReminders.removeIf(reminder -> !reminder.getDateToRemind().isAfter(TODAY));
+        return queuedReminders;
+    }
+}
@@ -5,12 +5,17 @@ import seedu.notus.data.tag.Tag;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 //@@author brandonywl
 class TimetableTest {
@@ -58,6 +63,51 @@ class TimetableTest {
         assertEquals(0, timetable.getDailyEvents().size());
     }
 
+    /**
+     * Asserts that adding and deleting events leaves the timetable with unsaved changes until it is saved.
+     */
+    @Test
+    void hasChanges_addAndDeleteEvent_trackedUntilCleared() {
+        Timetable timetable = initializeTimetable();
+        assertTrue(timetable.hasChanges());
+
+        timetable.clearChanges();
+        assertFalse(timetable.hasChanges());
+
+        timetable.deleteEvent(0);
+        assertTrue(timetable.hasChanges());
+    }
+
+    /**
+     * Asserts that one-off events are found by the day they start on, including after their timings are edited,
+     * and that deleting an event does not remove another event that is equal to it.
+     */
+    @Test
+    void getAllEvents_nonRecurringEvents_indexedByStart() {
+        Timetable timetable = new Timetable();
+        Event first = new Event(TEST_TITLE_1, TEST_DATE_TIME, TEST_END_DATE_TIME, false, false);
+        Event duplicate = new Event(TEST_TITLE_1, TEST_DATE_TIME, TEST_END_DATE_TIME, false, false);
+        Event later = new Event(TEST_TITLE_2, TEST_DATE_TIME.plusDays(3), TEST_END_DATE_TIME.plusDays(3),
+                false, false);
+        timetable.addEvent(later);
+        timetable.addEvent(first);
+        timetable.addEvent(duplicate);
+
+        LocalDate date = TEST_DATE_TIME.toLocalDate();
+        assertEquals(3, timetable.getAllEvents(date, date.plusDays(3)).size());
+        assertEquals(later, timetable.getAllEvents(date.plusDays(1), date.plusDays(3)).get(0));
+
+        timetable.deleteEvent(2);
+        assertEquals(1, timetable.getAllEvents(date, date).size());
+        assertTrue(timetable.getAllEvents(date, date).get(0) == first);
+
+        first.setStartDateTime(TEST_DATE_TIME.plusDays(5));
+        first.setEndDateTime(TEST_END_DATE_TIME.plusDays(5));
+        timetable.updateEvent(first);
+        assertTrue(timetable.getAllEvents(date, date).isEmpty());
+        assertEquals(1, timetable.getAllEvents(date.plusDays(5), date.plusDays(5)).size());
+    }
+
     /**
      * Asserts that recurring events are displayed properly across the specified year.
      */
@@ -71,6 +121,87 @@ class TimetableTest {
                 timetable.getAllEvents(startDate, endDate).size());
     }
 
+    /**
+     * Asserts that a timetable spanning several years places every event under its month and date in order.
+     */
+    @Test
+    void getTimetable_multipleYears_groupedByMonthAndDate() {
+        Timetable timetable = initializeTimetable();
+        LocalDate startDate = LocalDate.of(2020, 12, 1);
+        LocalDate endDate = LocalDate.of(2021, 1, 31);
+        EventCalendar calendar = timetable.getTimetable(startDate, endDate);
+
+        assertEquals(List.of(YearMonth.of(2020, 12), YearMonth.of(2021, 1)), calendar.getMonths());
+        assertEquals(31 + 5, calendar.getEvents(YearMonth.of(2021, 1)).size());
+        // The daily and monthly events both occur on the 27th of January 2021.
+        assertEquals(2, calendar.getEvents(LocalDate.of(2021, 1, 27)).size());
+        assertEquals(timetable.getAllEvents(startDate, endDate).size(), calendar.size());
+        assertEquals(timetable.getMonthTimetable(2021, 1).getEvents(YearMonth.of(2021, 1)),
+                timetable.getYearTimetable(2021).getEvents(YearMonth.of(2021, 1)));
+    }
+
+    /**
+     * Asserts that events are provided one at a time in order of their starting time across all events.
+     */
+    @Test
+    void iterateEvents_recurringAndOneOffEvents_sortedByStart() {
+        Timetable timetable = initializeTimetable();
+        Event oneOffEvent = new Event(TEST_TITLE_1, TEST_DATE_TIME.plusDays(7).minusHours(2),
+                TEST_END_DATE_TIME.plusDays(7).minusHours(2), false, false);
+        timetable.addEvent(oneOffEvent);
+        LocalDate startDate = TEST_DATE_TIME.toLocalDate();
+        LocalDate endDate = startDate.plusMonths(2);
+
+        Iterator<Event> events = timetable.iterateEvents(startDate, endDate);
+        ArrayList<Event> iteratedEvents = new ArrayList<>();
+        while (events.hasNext()) {
+            iteratedEvents.add(events.next());
+        }
+
+        ArrayList<Event> allEvents = timetable.getAllEvents(startDate, endDate);
+        Collections.sort(allEvents);
+        assertEquals(allEvents, iteratedEvents);
+        assertTrue(iteratedEvents.get(10) == oneOffEvent);
+    }
+
+    /**
+     * Asserts that only the requested number of upcoming events are taken, starting from the given time.
+     */
+    @Test
+    void getUpcomingEvents_threeEvents_earliestThree() {
+        Timetable timetable = initializeTimetable();
+        ArrayList<Event> upcomingEvents = timetable.getUpcomingEvents(TEST_DATE_TIME.plusMinutes(1), 3);
+
+        assertEquals(3, upcomingEvents.size());
+        assertEquals(TEST_DATE_TIME.plusDays(1), upcomingEvents.get(0).getStartDateTime());
+        assertEquals(TEST_DATE_TIME.plusDays(3), upcomingEvents.get(2).getStartDateTime());
+    }
+
+    /**
+     * Asserts that only the events set in place of the stored events are found by range, clash and reminder queries.
+     */
+    @Test
+    void setEvents_oneOffAndDailyEvents_indexesRebuilt() {
+        Timetable timetable = initializeTimetable();
+        Event oneOffEvent = new Event(TEST_TITLE_1, TEST_DATE_TIME.plusDays(2), TEST_END_DATE_TIME.plusDays(2),
+                false, false);
+        timetable.clearChanges();
+        timetable.setEvents(new ArrayList<>(List.of(oneOffEvent, dailyEvent)));
+
+        LocalDate date = TEST_DATE_TIME.toLocalDate().plusDays(2);
+        assertEquals(2, timetable.getAllEvents(date, date).size());
+        assertEquals(1, timetable.getDailyEvents().size());
+        Event event = new Event(TEST_TITLE_3, TEST_DATE_TIME.plusDays(2).plusMinutes(30),
+                TEST_END_DATE_TIME.plusDays(2).plusMinutes(30), false, false);
+        assertEquals(2, timetable.getClashes(event, Timetable.MAX_CLASHES).size());
+        assertEquals(2, timetable.getReminders().size());
+        assertTrue(timetable.hasChanges());
+
+        Timetable loadedTimetable = new Timetable(new ArrayList<>(List.of(oneOffEvent, dailyEvent)));
+        assertEquals(2, loadedTimetable.getAllEvents(date, date).size());
+        assertEquals(2, loadedTimetable.getReminders().size());
+    }
+
     /**
      * Assert that getReminders should work correctly.
      * Correct result should be 2, tomorrow's daily event and three day's from now daily event.
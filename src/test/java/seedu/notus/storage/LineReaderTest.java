@@ -0,0 +1,57 @@
+package seedu.notus.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LineReaderTest {
+
+    private Path createFile(String text) throws IOException {
+        Path file = Files.createTempFile("lines", ".txt");
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    void readMappedLines_mixedSeparators_sameAsBufferedLines() throws IOException {
+        Path file = createFile("first\r\nsecond é ü\n\nlast without separator");
+
+        ArrayList<String> mappedLines = LineReader.readMappedLines(file, Files.size(file));
+
+        assertEquals(List.of("first", "second é ü", "", "last without separator"), mappedLines);
+        assertEquals(LineReader.readBufferedLines(file), mappedLines);
+    }
+
+    @Test
+    void readMappedLines_loneCarriageReturns_sameAsBufferedLines() throws IOException {
+        Path file = createFile("first\rsecond\r\rthird\r\n\rlast\r");
+
+        ArrayList<String> mappedLines = LineReader.readMappedLines(file, Files.size(file));
+
+        assertEquals(List.of("first", "second", "", "third", "", "last"), mappedLines);
+        assertEquals(LineReader.readBufferedLines(file), mappedLines);
+    }
+
+    @Test
+    void readLines_fileAboveThreshold_allLinesRead() throws IOException {
+        StringBuilder text = new StringBuilder();
+        String longLine = "x".repeat(1000);
+        int lineCount = (int) (LineReader.MAPPING_THRESHOLD / longLine.length()) + 10;
+        for (int i = 0; i < lineCount; i++) {
+            text.append(i).append(longLine).append("\n");
+        }
+        Path file = createFile(text.toString());
+
+        ArrayList<String> lines = LineReader.readLines(file.toString());
+
+        assertEquals(lineCount, lines.size());
+        assertEquals((lineCount - 1) + longLine, lines.get(lineCount - 1));
+    }
+}
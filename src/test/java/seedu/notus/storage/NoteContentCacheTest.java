@@ -0,0 +1,76 @@
+package seedu.notus.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.notebook.Note;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NoteContentCacheTest {
+
+    private StorageManager storageManager;
+    private Note[] notes;
+
+    @BeforeEach
+    public void setUp() throws SystemException, IOException {
+        storageManager = new StorageManager(null, null, null, null);
+        storageManager.createFiles();
+
+        notes = new Note[3];
+        for (int i = 0; i < notes.length; i++) {
+            notes[i] = new Note("CacheNote" + i, new ArrayList<>(), false, false);
+            FileWriter fw = new FileWriter(storageManager.getNoteContentPath(notes[i].getTitle(), false));
+            fw.write("content " + i + System.lineSeparator());
+            fw.close();
+        }
+    }
+
+    @Test
+    void loadContent_capacityExceeded_leastRecentlyUsedUnloaded() {
+        NoteContentCache cache = new NoteContentCache(storageManager, 2);
+        for (Note note : notes) {
+            note.setContentLoader(cache);
+        }
+
+        assertEquals("content 0", notes[0].getContent().get(0));
+        notes[1].getContent();
+        notes[2].getContent();
+
+        assertFalse(notes[0].isContentLoaded());
+        assertTrue(notes[1].isContentLoaded());
+        assertTrue(notes[2].isContentLoaded());
+        assertEquals(2, cache.getLoadedCount());
+    }
+
+    @Test
+    void readContent_lazyNotes_loadedNotesKept() {
+        NoteContentCache cache = new NoteContentCache(storageManager, 1);
+        for (Note note : notes) {
+            note.setContentLoader(cache);
+        }
+
+        notes[0].getContent();
+        assertEquals("content 1", notes[1].readContent().get(0));
+        assertEquals("content 2", notes[2].readContent().get(0));
+
+        assertTrue(notes[0].isContentLoaded());
+        assertFalse(notes[1].isContentLoaded());
+        assertEquals(1, cache.getLoadedCount());
+    }
+
+    @Test
+    void loadPreview_lazyNote_contentNotLoaded() {
+        NoteContentCache cache = new NoteContentCache(storageManager, 2);
+        notes[0].setContentLoader(cache);
+
+        assertEquals("content 0", notes[0].getContentPreview());
+        assertFalse(notes[0].isContentLoaded());
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.notus.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.notebook.Note;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NoteJournalTest {
+
+    private File snapshot;
+    private ExecutorService compactor;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        snapshot = Files.createTempDirectory("journal").resolve("notebook.txt").toFile();
+        snapshot.createNewFile();
+        compactor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        compactor.shutdown();
+    }
+
+    private Note createNote(String title, boolean isPinned) {
+        ArrayList<String> content = new ArrayList<>();
+        content.add("content");
+        return new Note(title, content, isPinned, false);
+    }
+
+    @Test
+    void recover_putAndDeleteRecords_foldedIntoSnapshot() throws IOException {
+        NoteJournal journal = new NoteJournal(snapshot.getPath(), compactor, 100);
+        journal.put(createNote("First", false).toSaveString());
+        journal.put(createNote("Second", false).toSaveString());
+        journal.put(createNote("first", true).toSaveString());
+        journal.delete("SECOND");
+
+        journal.recover();
+
+        List<String> lines = Files.readAllLines(snapshot.toPath());
+        assertEquals(1, lines.size());
+        assertEquals("first", NoteJournal.getKey(lines.get(0)));
+        assertTrue(lines.get(0).contains("true"));
+        assertFalse(new File(snapshot.getPath() + NoteJournal.JOURNAL_SUFFIX).exists());
+    }
+
+    @Test
+    void recover_nonAsciiTitle_writtenAsUtf8() throws IOException {
+        NoteJournal journal = new NoteJournal(snapshot.getPath(), compactor, 100);
+        journal.put(createNote("Café notes", false).toSaveString());
+
+        journal.recover();
+
+        List<String> lines = Files.readAllLines(snapshot.toPath());
+        assertEquals("café notes", NoteJournal.getKey(lines.get(0)));
+    }
+
+    @Test
+    void recover_renameRecord_positionKept() throws IOException {
+        NoteJournal journal = new NoteJournal(snapshot.getPath(), compactor, 100);
+        journal.put(createNote("First", false).toSaveString());
+        journal.put(createNote("Second", false).toSaveString());
+        journal.rename("First", createNote("Renamed", false).toSaveString());
+
+        journal.recover();
+
+        List<String> lines = Files.readAllLines(snapshot.toPath());
+        assertEquals(2, lines.size());
+        assertEquals("renamed", NoteJournal.getKey(lines.get(0)));
+        assertEquals("second", NoteJournal.getKey(lines.get(1)));
+    }
+
+    @Test
+    void recover_chainedRenamesAndDeletes_positionsKept() throws IOException {
+        NoteJournal journal = new NoteJournal(snapshot.getPath(), compactor, 100);
+        journal.put(createNote("First", false).toSaveString());
+        journal.put(createNote("Second", false).toSaveString());
+        journal.put(createNote("Third", false).toSaveString());
+        journal.rename("Second", createNote("Middle", false).toSaveString());
+        journal.rename("Middle", createNote("Centre", true).toSaveString());
+        journal.delete("First");
+        journal.put(createNote("First", false).toSaveString());
+        journal.rename("Missing", createNote("Last", false).toSaveString());
+
+        journal.recover();
+
+        List<String> lines = Files.readAllLines(snapshot.toPath());
+        assertEquals(4, lines.size());
+        assertEquals("centre", NoteJournal.getKey(lines.get(0)));
+        assertTrue(lines.get(0).contains("true"));
+        assertEquals("third", NoteJournal.getKey(lines.get(1)));
+        assertEquals("first", NoteJournal.getKey(lines.get(2)));
+        assertEquals("last", NoteJournal.getKey(lines.get(3)));
+    }
+
+    @Test
+    void put_thresholdReached_journalCompacted() throws IOException {
+        NoteJournal journal = new NoteJournal(snapshot.getPath(), compactor, 2);
+        journal.put(createNote("First", false).toSaveString());
+        journal.put(createNote("Second", false).toSaveString());
+        journal.awaitCompaction();
+
+        assertEquals(2, Files.readAllLines(snapshot.toPath()).size());
+        assertFalse(new File(snapshot.getPath() + NoteJournal.SEALED_SUFFIX).exists());
+    }
+
+    @Test
+    void put_compactionFailedThenThresholdReached_sealedRecordsKept() throws IOException {
+        // The snapshot cannot be read while it is a directory, so every compaction fails.
+        snapshot.delete();
+        snapshot.mkdir();
+
+        NoteJournal journal = new NoteJournal(snapshot.getPath(), compactor, 2);
+        journal.put(createNote("First", false).toSaveString());
+        journal.put(createNote("Second", false).toSaveString());
+        journal.awaitCompaction();
+        assertTrue(new File(snapshot.getPath() + NoteJournal.SEALED_SUFFIX).exists());
+
+        journal.put(createNote("Third", false).toSaveString());
+        journal.put(createNote("Fourth", false).toSaveString());
+        journal.awaitCompaction();
+
+        snapshot.delete();
+        snapshot.createNewFile();
+        journal.recover();
+
+        List<String> lines = Files.readAllLines(snapshot.toPath());
+        assertEquals(4, lines.size());
+        assertEquals("first", NoteJournal.getKey(lines.get(0)));
+        assertEquals("fourth", NoteJournal.getKey(lines.get(3)));
+    }
+
+    @Test
+    void rewrite_pendingRecords_journalDiscarded() throws IOException {
+        NoteJournal journal = new NoteJournal(snapshot.getPath(), compactor, 100);
+        journal.put(createNote("First", false).toSaveString());
+
+        ArrayList<String> details = new ArrayList<>();
+        details.add(createNote("Second", false).toSaveString());
+        journal.rewrite(details);
+        journal.recover();
+
+        List<String> lines = Files.readAllLines(snapshot.toPath());
+        assertEquals(1, lines.size());
+        assertEquals("second", NoteJournal.getKey(lines.get(0)));
+    }
+}
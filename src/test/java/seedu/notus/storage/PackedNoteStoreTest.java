@@ -0,0 +1,107 @@
+package seedu.notus.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PackedNoteStoreTest {
+
+    private Path directory;
+    private PackedNoteStore store;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("pack");
+        store = createStore();
+    }
+
+    private PackedNoteStore createStore() {
+        return new PackedNoteStore(directory.resolve("notes.pack").toString(),
+                directory.resolve("notes.idx").toString());
+    }
+
+    @Test
+    void write_reopened_contentRead() throws IOException {
+        store.write("First", false, List.of("line one", "café", "", "line four"));
+        store.write("Empty", true, new ArrayList<>());
+        store.close();
+
+        PackedNoteStore reopened = createStore();
+        assertEquals(List.of("line one", "café", "", "line four"), reopened.read("first", false));
+        assertEquals(new ArrayList<>(), reopened.read("Empty", true));
+        assertNull(reopened.read("Empty", false));
+        assertNull(reopened.read("Missing", false));
+    }
+
+    @Test
+    void setArchivedAndRename_indexOnly_packUnchanged() throws IOException {
+        store.write("First", false, List.of("content"));
+        long packSize = Files.size(directory.resolve("notes.pack"));
+
+        assertTrue(store.setArchived("First", true));
+        assertTrue(store.rename("First", "Renamed"));
+        store.close();
+
+        PackedNoteStore reopened = createStore();
+        assertEquals(packSize, Files.size(directory.resolve("notes.pack")));
+        assertFalse(reopened.contains("First", true));
+        assertTrue(reopened.contains("Renamed", true));
+        assertEquals(List.of("content"), reopened.read("Renamed", true));
+    }
+
+    @Test
+    void delete_storedContent_removedFromIndex() throws IOException {
+        store.write("First", false, List.of("content"));
+
+        assertTrue(store.delete("FIRST"));
+        assertFalse(store.delete("First"));
+        assertEquals(0, store.getSize());
+    }
+
+    @Test
+    void setArchived_manyChanges_indexAppendedThenRewritten() throws IOException {
+        store.write("First", false, List.of("content"));
+        store.write("Second", false, List.of("content"));
+        assertTrue(store.delete("Second"));
+        assertEquals(3, Files.readAllLines(directory.resolve("notes.idx")).size());
+
+        for (int i = 0; i < 100; i++) {
+            store.setArchived("First", i % 2 == 0);
+        }
+        store.close();
+
+        assertTrue(Files.readAllLines(directory.resolve("notes.idx")).size() < 100);
+        PackedNoteStore reopened = createStore();
+        assertEquals(1, reopened.getSize());
+        assertTrue(reopened.contains("First", false));
+        assertEquals(List.of("content"), reopened.read("First", false));
+    }
+
+    @Test
+    void write_wastedBytesExceedLiveBytes_packCompacted() throws IOException {
+        ArrayList<String> content = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            content.add("Line " + i + " of a note that is rewritten many times.");
+        }
+
+        for (int i = 0; i < 10; i++) {
+            store.write("Rewritten", false, content);
+        }
+        store.write("Other", true, List.of("other"));
+
+        assertTrue(store.getWastedBytes() <= Files.size(directory.resolve("notes.pack")) / 2);
+        assertEquals(content, store.read("Rewritten", false));
+        assertEquals(List.of("other"), store.read("Other", true));
+        assertFalse(Files.exists(directory.resolve("notes.idx" + PackedNoteStore.NEXT_INDEX_SUFFIX)));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.notus.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.notebook.Note;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelContentLoaderTest {
+
+    @Test
+    void loadContents_manyNotes_contentsAssignedInOrder() throws SystemException, IOException {
+        StorageManager storageManager = new StorageManager(null, null, null, null);
+        storageManager.createFiles();
+
+        ArrayList<Note> notes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Note note = new Note("ParallelNote" + i, new ArrayList<>(), false, false);
+            FileWriter fw = new FileWriter(storageManager.getNoteContentPath(note.getTitle(), false));
+            fw.write("content " + i + System.lineSeparator());
+            fw.close();
+            notes.add(note);
+        }
+        Note missingNote = new Note("MissingParallelNote", new ArrayList<>(), false, false);
+        notes.add(missingNote);
+
+        new ParallelContentLoader(storageManager, 4).loadContents(notes);
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals("content " + i, notes.get(i).getContent().get(0));
+        }
+        assertTrue(missingNote.getContent().isEmpty());
+    }
+
+    @Test
+    void readContents_lazyNotes_contentsReturnedNotKept() throws SystemException, IOException {
+        StorageManager storageManager = new StorageManager(null, null, null, null);
+        storageManager.createFiles();
+        NoteContentCache cache = new NoteContentCache(storageManager, 1);
+
+        ArrayList<Note> notes = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Note note = new Note("ReadParallelNote" + i, new ArrayList<>(), false, false);
+            FileWriter fw = new FileWriter(storageManager.getNoteContentPath(note.getTitle(), false));
+            fw.write("content " + i + System.lineSeparator());
+            fw.close();
+            note.setContentLoader(cache);
+            notes.add(note);
+        }
+
+        ArrayList<ArrayList<String>> contents = new ParallelContentLoader(storageManager, 4).readContents(notes);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("content " + i, contents.get(i).get(0));
+            assertFalse(notes.get(i).isContentLoaded());
+        }
+        assertEquals(0, cache.getLoadedCount());
+    }
+}
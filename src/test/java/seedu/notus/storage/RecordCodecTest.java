@@ -0,0 +1,57 @@
+package seedu.notus.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.tag.Tag;
+import seedu.notus.data.timetable.Event;
+import seedu.notus.data.timetable.RecurringEvent;
+import seedu.notus.data.timetable.WeeklyEvent;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecordCodecTest {
+
+    @Test
+    void decodeNote_savedNote_detailsRestored() throws SystemException {
+        ArrayList<Tag> tags = new ArrayList<>();
+        tags.add(new Tag("CS2113", Tag.COLOR_BLUE_STRING));
+        Note note = new Note("Java OOP", new ArrayList<>(List.of("Abstraction")), true, false, tags);
+
+        Note decodedNote = RecordCodec.decodeNote(note.toSaveString().trim(), true);
+
+        assertEquals("Java OOP", decodedNote.getTitle());
+        assertTrue(decodedNote.getPinned());
+        assertTrue(decodedNote.getIsArchived());
+        assertEquals("CS2113", decodedNote.getTags().get(0).getTagName());
+    }
+
+    @Test
+    void decodeEvent_encodedRecurringEvent_detailsRestored() throws SystemException {
+        HashMap<String, ArrayList<Integer>> reminders = new HashMap<>();
+        reminders.put(Event.REMINDER_DAY, new ArrayList<>(List.of(1, 2)));
+        LocalDateTime start = LocalDateTime.of(2020, 10, 20, 10, 0);
+        Event event = new WeeklyEvent("Lecture", start, start.plusHours(2), true,
+                LocalDate.of(2020, 12, 31), reminders, new ArrayList<>());
+
+        Event decodedEvent = RecordCodec.decodeEvent(RecordCodec.encodeEvent(event).trim());
+
+        assertTrue(decodedEvent instanceof WeeklyEvent);
+        assertEquals(RecordCodec.encodeEvent(event), RecordCodec.encodeEvent(decodedEvent));
+        assertEquals(LocalDate.of(2020, 12, 31), ((RecurringEvent) decodedEvent).getEndRecurrenceDate());
+    }
+
+    @Test
+    void decodeEvent_corruptedRecord_exceptionThrown() {
+        assertThrows(SystemException.class, () -> RecordCodec.decodeEvent("/t Lecture /timing 2020-13-45"));
+        assertThrows(SystemException.class, () -> RecordCodec.decodeEvent("garbage"));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.notus.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class SnapshotWriterTest {
+
+    private File file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        file = Files.createTempDirectory("snapshot").resolve("timetable.txt").toFile();
+        Files.write(file.toPath(), List.of("old"));
+    }
+
+    @Test
+    void write_lines_fileReplaced() throws IOException {
+        ArrayList<String> lines = new ArrayList<>();
+        lines.add("first");
+        lines.add("second");
+
+        SnapshotWriter.write(file.getPath(), lines);
+
+        assertEquals(lines, Files.readAllLines(file.toPath()));
+        assertFalse(new File(file.getPath() + SnapshotWriter.TEMP_SUFFIX).exists());
+    }
+
+    @Test
+    void close_notCommitted_originalFileKept() throws IOException {
+        SnapshotWriter writer = new SnapshotWriter(file.getPath());
+        writer.writeLine("new");
+        writer.close();
+
+        assertEquals(List.of("old"), Files.readAllLines(file.toPath()));
+        assertFalse(new File(file.getPath() + SnapshotWriter.TEMP_SUFFIX).exists());
+    }
+}
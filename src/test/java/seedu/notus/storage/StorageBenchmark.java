@@ -0,0 +1,179 @@
+package seedu.notus.storage;
+
+import seedu.notus.data.exception.SystemException;
+import seedu.notus.data.notebook.Note;
+import seedu.notus.data.timetable.Event;
+import seedu.notus.data.timetable.Timetable;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Scanner;
+
+/**
+ * Compares the time taken to save the notebook details with one file handle per note
+ * against streaming the whole snapshot through a single SnapshotWriter,
+ * measures the time taken to decode the saved records at startup,
+ * compares reading note content files one at a time against reading them in parallel,
+ * and compares reading large storage files with a Scanner against the LineReader.
+ * Run with {@code gradle benchmark}, which uses build/benchmark as the working directory for the data folder.
+ */
+public class StorageBenchmark {
+    private static final int[] NOTE_COUNTS = {1_000, 10_000, 100_000};
+    private static final int WARM_UP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+    private static final int LOAD_RECORD_COUNT = 50_000;
+    private static final int CONTENT_FILE_COUNT = 5_000;
+    private static final int LARGE_FILE_RECORD_COUNT = 100_000;
+
+    /** Saves every note with a new appending FileWriter, as saveAllNoteDetails used to. */
+    private static void savePerNote(String path, ArrayList<String> details) throws IOException {
+        FileWriter fw = new FileWriter(path, false);
+        fw.write("");
+        fw.close();
+
+        for (String detail : details) {
+            FileWriter fwAppend = new FileWriter(path, true);
+            fwAppend.write(detail);
+            fwAppend.close();
+        }
+    }
+
+    private static long measure(Action action) throws IOException {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            action.run();
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            action.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000;
+    }
+
+    private static ArrayList<String> createNoteDetails(int count) {
+        ArrayList<String> details = new ArrayList<>();
+        ArrayList<String> content = new ArrayList<>();
+        content.add("content");
+
+        for (int i = 0; i < count; i++) {
+            details.add(new Note("Note " + i, content, i % 2 == 0, false).toSaveString());
+        }
+        return details;
+    }
+
+    /** Decodes every saved event record into a new Timetable, as loadTimetable does. */
+    private static void decodeEvents(ArrayList<String> records) throws IOException {
+        Timetable timetable = new Timetable();
+        try {
+            for (String record : records) {
+                timetable.addEvent(RecordCodec.decodeEvent(record));
+            }
+        } catch (SystemException exception) {
+            throw new IOException(exception.getMessage());
+        }
+    }
+
+    private static ArrayList<String> createEventRecords(int count) {
+        ArrayList<String> records = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 10, 0);
+
+        for (int i = 0; i < count; i++) {
+            LocalDateTime eventStart = start.plusHours(i);
+            Event event = new Event("Event " + i, eventStart, eventStart.plusMinutes(30), false, false);
+            records.add(RecordCodec.encodeEvent(event).trim());
+        }
+        return records;
+    }
+
+    /** Creates a content file for each note in the data folder, as the notes would have after being saved. */
+    private static ArrayList<Note> createContentFiles(StorageManager storageManager, int count) throws IOException {
+        ArrayList<Note> notes = new ArrayList<>();
+        ArrayList<String> content = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            content.add("Line " + i + " of a note that is long enough to resemble a real one.");
+        }
+
+        for (int i = 0; i < count; i++) {
+            Note note = new Note("Benchmark " + i, content, false, false);
+            storageManager.saveNoteContent(note, false);
+            notes.add(note);
+        }
+        return notes;
+    }
+
+    private static void loadSequentially(StorageManager storageManager, ArrayList<Note> notes) throws IOException {
+        try {
+            for (Note note : notes) {
+                note.setContent(storageManager.getNoteContent(note, false));
+            }
+        } catch (SystemException exception) {
+            throw new IOException(exception.getMessage());
+        }
+    }
+
+    /** Reads every line of a file with a Scanner, as the loaders used to. */
+    private static ArrayList<String> readWithScanner(String path) throws IOException {
+        ArrayList<String> lines = new ArrayList<>();
+        Scanner scanner = new Scanner(new File(path));
+        while (scanner.hasNextLine()) {
+            lines.add(scanner.nextLine());
+        }
+        scanner.close();
+        return lines;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Files.createTempDirectory("notus-benchmark");
+        String path = directory.resolve("notebook.txt").toString();
+
+        System.out.printf("%10s %15s %15s%n", "notes", "per-note (ms)", "snapshot (ms)");
+        for (int count : NOTE_COUNTS) {
+            ArrayList<String> details = createNoteDetails(count);
+            long perNote = measure(() -> savePerNote(path, details));
+            long snapshot = measure(() -> SnapshotWriter.write(path, details));
+            System.out.printf("%10d %15d %15d%n", count, perNote, snapshot);
+        }
+
+        ArrayList<String> records = createEventRecords(LOAD_RECORD_COUNT);
+        System.out.printf("%nDecoding %d event records: %d ms%n", LOAD_RECORD_COUNT,
+                measure(() -> decodeEvents(records)));
+
+        StorageManager.createDirectory(StorageManager.LOGS_DIR);
+        StorageManager storageManager = new StorageManager(null, null, null, null);
+        try {
+            storageManager.createFiles();
+        } catch (SystemException exception) {
+            throw new IOException(exception.getMessage());
+        }
+        ArrayList<Note> notes = createContentFiles(storageManager, CONTENT_FILE_COUNT);
+        ParallelContentLoader loader = new ParallelContentLoader(storageManager);
+        System.out.printf("Reading %d content files: sequential %d ms, parallel %d ms%n", CONTENT_FILE_COUNT,
+                measure(() -> loadSequentially(storageManager, notes)),
+                measure(() -> loader.loadContents(notes)));
+
+        String notebookPath = directory.resolve("large-notebook.txt").toString();
+        String timetablePath = directory.resolve("large-timetable.txt").toString();
+        SnapshotWriter.write(notebookPath, createNoteDetails(LARGE_FILE_RECORD_COUNT));
+        SnapshotWriter.write(timetablePath, createEventRecords(LARGE_FILE_RECORD_COUNT));
+
+        System.out.printf("%n%15s %10s %15s %15s%n", "file", "size (KB)", "scanner (ms)", "reader (ms)");
+        for (String largePath : new String[] {notebookPath, timetablePath}) {
+            System.out.printf("%15s %10d %15d %15d%n", Paths.get(largePath).getFileName(),
+                    Files.size(Paths.get(largePath)) / 1024,
+                    measure(() -> readWithScanner(largePath)),
+                    measure(() -> LineReader.readLines(largePath)));
+        }
+    }
+
+    private interface Action {
+        void run() throws IOException;
+    }
+}